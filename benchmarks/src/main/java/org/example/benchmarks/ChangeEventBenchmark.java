@@ -0,0 +1,95 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ChangeEventBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 13.50
+*/
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.GlidedRose;
+import org.example.ItemChangeRingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One day with change events against the plain update. The events go to
+ * {@code subscribers} threads that each sum every field, so the score includes
+ * waiting for the slowest of them when the ring is full.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ChangeEventBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"1", "2"})
+    public int subscribers;
+
+    private GlidedRose app;
+    private ItemChangeRingBuffer ring;
+    private Thread[] consumers;
+    private volatile boolean running;
+    public volatile long sink;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        app = new GlidedRose(InventoryProfile.MIXED.generate(size, 42));
+        ring = new ItemChangeRingBuffer(1 << 16);
+        running = true;
+        consumers = new Thread[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            ItemChangeRingBuffer.Subscription subscription = ring.subscribe();
+            consumers[i] = new Thread(() -> {
+                long[] sum = new long[1];
+                while (running) {
+                    if (subscription.poll((index, oldSellIn, newSellIn, oldQuality, newQuality, flags) ->
+                            sum[0] += index + oldSellIn + newSellIn + oldQuality + newQuality + flags, 4096) == 0) {
+                        Thread.onSpinWait();
+                    }
+                }
+                sink = sum[0];
+            });
+            consumers[i].setDaemon(true);
+            consumers[i].start();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+    }
+
+    @Benchmark
+    public GlidedRose plain() {
+        app.updateQuality();
+        return app;
+    }
+
+    @Benchmark
+    public GlidedRose published() {
+        app.updateQualityAndPublish(ring);
+        return app;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ForecastBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 15.05
+*/
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.ForecastScenario;
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.MonteCarloForecaster;
+import org.example.QualityForecast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A season forecast of {@code replicas} runs over {@code days}. {@code copyAndLoop}
+ * is the {@code Main}-style baseline without sales: copy the items for every run and
+ * call {@code updateQuality()} each day, reading the qualities back afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ForecastBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"100"})
+    public int replicas;
+
+    @Param({"90"})
+    public int days;
+
+    private Item[] items;
+    private MonteCarloForecaster noSales;
+    private MonteCarloForecaster withSales;
+
+    @Setup
+    public void setUp() {
+        items = InventoryProfile.MIXED.generate(size, 42);
+        noSales = new MonteCarloForecaster(items, ForecastScenario.NO_SALES);
+        withSales = new MonteCarloForecaster(items, new ForecastScenario(0.02, 0.1));
+    }
+
+    @Benchmark
+    public long copyAndLoop() {
+        long sum = 0;
+        for (int replica = 0; replica < replicas; replica++) {
+            Item[] copy = new Item[items.length];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = new Item(items[i].getName(), items[i].getSellIn(), items[i].getQuality());
+            }
+            GlidedRose app = new GlidedRose(copy);
+            for (int day = 0; day < days; day++) {
+                app.updateQuality();
+                for (Item item : copy) {
+                    sum += item.getQuality();
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public QualityForecast forecastNoSales() {
+        return noSales.forecast(replicas, days, 7);
+    }
+
+    @Benchmark
+    public QualityForecast forecastWithSales() {
+        return withSales.forecast(replicas, days, 7);
+    }
+}
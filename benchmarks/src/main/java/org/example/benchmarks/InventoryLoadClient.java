@@ -0,0 +1,98 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  InventoryLoadClient
+  @version  1.0.0 
+  @since 18.10.26 - 10.55
+*/
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.InventoryServer;
+import org.example.LatencyHistogram;
+
+/**
+ * Closed-loop load against a running {@link InventoryServer}: each client sends its
+ * next request as soon as the previous one is answered. The request mix comes from
+ * a seeded random per client, so runs with the same arguments send the same requests.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.example.benchmarks.InventoryLoadClient \
+ *     [baseUrl] [clients] [seconds] [preloadItems] [seed]
+ * </pre>
+ * The mix is 80% item reads, 15% adds and 5% stats reads; one client also triggers
+ * a rollover every 1000 requests.
+ */
+public class InventoryLoadClient {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        int preload = args.length > 3 ? Integer.parseInt(args[3]) : 10_000;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        for (int i = 0; i < preload; i++) {
+            http.send(post(baseUrl + "/items", item(i)), HttpResponse.BodyHandlers.discarding());
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = InventoryServer.handlerExecutor();
+        for (int client = 0; client < clients; client++) {
+            int index = client;
+            executor.execute(() -> {
+                SplittableRandom random = new SplittableRandom(seed + index);
+                for (long sent = 1; System.nanoTime() < deadline; sent++) {
+                    HttpRequest request;
+                    int pick = random.nextInt(100);
+                    if (index == 0 && sent % 1000 == 0) {
+                        request = post(baseUrl + "/update", "");
+                    } else if (pick < 80) {
+                        request = HttpRequest.newBuilder(URI.create(baseUrl + "/items/" + random.nextInt(preload))).build();
+                    } else if (pick < 95) {
+                        request = post(baseUrl + "/items", item(random.nextInt(1_000_000)));
+                    } else {
+                        request = HttpRequest.newBuilder(URI.create(baseUrl + "/stats")).build();
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status >= 400) {
+                            errors.increment();
+                        }
+                    } catch (Exception e) {
+                        errors.increment();
+                    }
+                    latency.record(System.nanoTime() - start);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        System.out.printf("clients=%d seconds=%d requests=%d errors=%d throughput=%.0f req/s%n",
+                clients, seconds, latency.count(), errors.sum(), latency.count() / (double) seconds);
+        System.out.printf("latency p50=%.2f ms p99=%.2f ms p99.9=%.2f ms max=%.2f ms%n",
+                latency.percentile(50) / 1e6, latency.percentile(99) / 1e6,
+                latency.percentile(99.9) / 1e6, latency.max() / 1e6);
+    }
+
+    private static HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private static String item(int n) {
+        return "{\"name\":\"Item " + n + "\",\"sellIn\":" + (n % 30) + ",\"quality\":" + (n % 50) + "}";
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  InventoryProfile
+  @version  1.0.0 
+  @since 18.10.26 - 12.10
+*/
+
+import java.util.SplittableRandom;
+
+import org.example.Item;
+
+/**
+ * Item mixes the benchmarks run against. Weights are per mille for normal, Aged Brie,
+ * Backstage passes, Sulfuras and Conjured items, in that order.
+ */
+public enum InventoryProfile {
+    ALL_NORMAL(1000, 0, 0, 0, 0),
+    MIXED(500, 150, 150, 100, 100),
+    BRIE_HEAVY(200, 700, 50, 50, 0),
+    BACKSTAGE_HEAVY(200, 50, 700, 50, 0),
+    MOSTLY_SULFURAS(50, 25, 25, 900, 0);
+
+    private static final String[] NORMAL_NAMES = {"+5 Dexterity Vest", "Elixir of the Mongoose"};
+
+    private final int[] cumulativeWeights;
+
+    InventoryProfile(int normal, int brie, int backstage, int sulfuras, int conjured) {
+        cumulativeWeights = new int[]{
+                normal,
+                normal + brie,
+                normal + brie + backstage,
+                normal + brie + backstage + sulfuras,
+                normal + brie + backstage + sulfuras + conjured};
+    }
+
+    public Item[] generate(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Item[] items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            int pick = random.nextInt(1000);
+            int sellIn = random.nextInt(-5, 30);
+            int quality = random.nextInt(0, 51);
+            if (pick < cumulativeWeights[0]) {
+                items[i] = new Item(NORMAL_NAMES[i & 1], sellIn, quality);
+            } else if (pick < cumulativeWeights[1]) {
+                items[i] = new Item("Aged Brie", sellIn, quality);
+            } else if (pick < cumulativeWeights[2]) {
+                items[i] = new Item("Backstage passes to a TAFKAL80ETC concert", sellIn, quality);
+            } else if (pick < cumulativeWeights[3]) {
+                items[i] = new Item("Sulfuras, Hand of Ragnaros", sellIn, 80);
+            } else {
+                items[i] = new Item("Conjured Mana Cake", sellIn, quality);
+            }
+        }
+        return items;
+    }
+}
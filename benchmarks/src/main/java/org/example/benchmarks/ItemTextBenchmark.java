@@ -0,0 +1,111 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemTextBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 12.30
+*/
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.example.Item;
+import org.example.ItemRecords;
+import org.example.ItemTextReader;
+import org.example.ItemTextWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dumping and loading a whole inventory as text in a temporary file. {@code println}
+ * reproduces {@code Main}: a {@code System.out}-like stream (128-byte buffer, flushed
+ * per line) printing {@link Item#toString()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemTextBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Item[] items;
+    private Item[] targets;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        items = InventoryProfile.MIXED.generate(size, 42);
+        targets = new Item[size];
+        for (int i = 0; i < size; i++) {
+            targets[i] = new Item(null, 0, 0);
+        }
+        file = Files.createTempFile("items", ".txt");
+        try (ItemTextWriter writer = ItemTextWriter.open(file)) {
+            writer.write(items, 0, size);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void println() throws IOException {
+        try (PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(file.toFile()), 128), true)) {
+            for (Item item : items) {
+                out.println(item);
+            }
+        }
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        try (ItemTextWriter writer = ItemTextWriter.open(file)) {
+            writer.write(items, 0, size);
+        }
+    }
+
+    @Benchmark
+    public Item[] readLines() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int i = 0;
+            while ((line = reader.readLine()) != null) {
+                ItemRecords.parseInto(line, targets[i++]);
+            }
+        }
+        return targets;
+    }
+
+    @Benchmark
+    public Item[] read() throws IOException {
+        try (ItemTextReader reader = ItemTextReader.open(file)) {
+            reader.read(targets, 0, size);
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  LazyInventoryBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 15.50
+*/
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.LazyInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One day followed by {@code readPercent} percent of the items read at random slots,
+ * for the eager update and {@link LazyInventory}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LazyInventoryBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"1", "100"})
+    public int readPercent;
+
+    private GlidedRose eager;
+    private LazyInventory lazy;
+    private int[] reads;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        eager = new GlidedRose(InventoryProfile.MIXED.generate(size, 42));
+        lazy = new LazyInventory(InventoryProfile.MIXED.generate(size, 42));
+        SplittableRandom random = new SplittableRandom(7);
+        reads = new int[(int) ((long) size * readPercent / 100)];
+        for (int i = 0; i < reads.length; i++) {
+            reads[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public long eager() {
+        eager.updateQuality();
+        long sum = 0;
+        Item[] items = eager.getItems();
+        for (int slot : reads) {
+            sum += items[slot].getQuality();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lazy() {
+        lazy.updateQuality();
+        long sum = 0;
+        for (int slot : reads) {
+            sum += lazy.quality(slot);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  NameLookupBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 18.20
+*/
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookup of one item by a unique name, through {@link GlidedRose#indexOf(String)}
+ * and by scanning the array. The names looked up are fresh strings, as they would be
+ * when parsed from a request, so their hash codes are not cached. The 100M case
+ * needs a machine with about 24 GB of memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx24g")
+public class NameLookupBenchmark {
+    private static final int LOOKUPS = 4096;
+
+    @Param({"1000", "1000000", "100000000"})
+    public int size;
+
+    private GlidedRose app;
+    private char[][] names;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Item[] items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Item("SKU-" + i, i % 30, i % 50);
+        }
+        app = new GlidedRose(items);
+        app.indexOf("warm up the index");
+        SplittableRandom random = new SplittableRandom(11);
+        names = new char[LOOKUPS][];
+        for (int i = 0; i < LOOKUPS; i++) {
+            names[i] = ("SKU-" + random.nextInt(size)).toCharArray();
+        }
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return app.indexOf(nextName());
+    }
+
+    @Benchmark
+    public int linearScan() {
+        String name = nextName();
+        Item[] items = app.getItems();
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String nextName() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return new String(names[next]);
+    }
+}
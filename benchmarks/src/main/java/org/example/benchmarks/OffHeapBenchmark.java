@@ -0,0 +1,68 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  OffHeapBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 16.50
+*/
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.GlidedRose;
+import org.example.OffHeapInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One day over the heap {@code Item[]} against {@link OffHeapInventory}. Run with
+ * {@code -prof gc} to compare the collection counts and times of both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class OffHeapBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private GlidedRose heap;
+    private OffHeapInventory offHeap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        heap = new GlidedRose(InventoryProfile.MIXED.generate(size, 42));
+        offHeap = OffHeapInventory.of(heap.getItems());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        offHeap.close();
+    }
+
+    @Benchmark
+    public GlidedRose heap() {
+        heap.updateQuality();
+        return heap;
+    }
+
+    @Benchmark
+    public OffHeapInventory offHeap() {
+        offHeap.updateQuality();
+        return offHeap;
+    }
+}
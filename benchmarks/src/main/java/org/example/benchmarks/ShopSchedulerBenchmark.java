@@ -0,0 +1,70 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ShopSchedulerBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 09.40
+*/
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.GlidedRose;
+import org.example.ShopScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One day over many small shops: a plain loop over the shops against the batched
+ * {@link ShopScheduler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ShopSchedulerBenchmark {
+
+    @Param({"1000", "100000"})
+    public int shops;
+
+    @Param({"10", "200"})
+    public int itemsPerShop;
+
+    private GlidedRose[] inventories;
+    private ShopScheduler scheduler;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        inventories = new GlidedRose[shops];
+        for (int shop = 0; shop < shops; shop++) {
+            inventories[shop] = new GlidedRose(InventoryProfile.MIXED.generate(itemsPerShop, shop));
+        }
+        scheduler = new ShopScheduler();
+    }
+
+    @Benchmark
+    public GlidedRose[] loop() {
+        for (GlidedRose shop : inventories) {
+            shop.updateQuality();
+        }
+        return inventories;
+    }
+
+    @Benchmark
+    public GlidedRose[] scheduled() {
+        scheduler.run(inventories, 1);
+        return inventories;
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateQualityBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 12.25
+*/
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.CategoryPartitions;
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.UpdateDispatchTable;
+import org.example.UpdateMetrics;
+import org.example.UpdateRuleRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the daily update in inventory-days per second. Every call puts the
+ * items back to their generated sellIn and quality and then runs a {@value #SEASON}-day
+ * season, so each measured day sees the same mix of changing and settled items
+ * however long the run; left alone, every item would reach 0 or 50 within the first
+ * few hundred calls. The restock writes two ints per item and is the same in every
+ * benchmark. Run with {@code -prof gc} for the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UpdateQualityBenchmark {
+    static final int SEASON = 30;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"ALL_NORMAL", "MIXED", "BRIE_HEAVY", "BACKSTAGE_HEAVY", "MOSTLY_SULFURAS"})
+    public InventoryProfile profile;
+
+    private Item[] items;
+    private int[] startSellIn;
+    private int[] startQuality;
+    private GlidedRose app;
+    private CategoryPartitions partitions;
+    private UpdateDispatchTable dispatchTable;
+    private final UpdateMetrics metrics = new UpdateMetrics();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = profile.generate(size, 42);
+        startSellIn = new int[size];
+        startQuality = new int[size];
+        for (int i = 0; i < size; i++) {
+            startSellIn[i] = items[i].getSellIn();
+            startQuality[i] = items[i].getQuality();
+        }
+        app = new GlidedRose(items);
+        partitions = CategoryPartitions.of(items);
+        dispatchTable = UpdateRuleRegistry.standard().compile(items);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEASON)
+    public Item[] dailyLoop() {
+        restock();
+        for (int day = 0; day < SEASON; day++) {
+            app.updateQuality();
+        }
+        return items;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEASON)
+    public Item[] dailyLoopInstrumented() {
+        restock();
+        for (int day = 0; day < SEASON; day++) {
+            app.updateQuality(metrics);
+        }
+        return items;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEASON)
+    public Item[] dailyLoopMetricsDisabled() {
+        restock();
+        for (int day = 0; day < SEASON; day++) {
+            app.updateQuality((UpdateMetrics) null);
+        }
+        return items;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEASON)
+    public Item[] dailyLoopPartitioned() {
+        restock();
+        for (int day = 0; day < SEASON; day++) {
+            partitions.updateQuality();
+        }
+        return items;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEASON)
+    public Item[] dailyLoopDispatchTable() {
+        restock();
+        for (int day = 0; day < SEASON; day++) {
+            dispatchTable.updateQuality();
+        }
+        return items;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEASON)
+    public Item[] seasonAdvance() {
+        restock();
+        app.advanceDays(SEASON);
+        return items;
+    }
+
+    private void restock() {
+        Item[] items = this.items;
+        for (int i = 0; i < items.length; i++) {
+            items[i].setSellIn(startSellIn[i]);
+            items[i].setQuality(startQuality[i]);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.benchmarks;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  VectorUpdateBenchmark
+  @version  1.0.0 
+  @since 18.10.26 - 19.40
+*/
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.ColumnarInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scalar against Vector API update of the columnar layout. The score of
+ * {@code vectorized} only reflects SIMD code when {@code vectorAvailable} is true in
+ * the setup output; the fork adds the incubator module for that.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class VectorUpdateBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"ALL_NORMAL", "MIXED", "BACKSTAGE_HEAVY"})
+    public InventoryProfile profile;
+
+    private ColumnarInventory inventory;
+
+    @Setup(Level.Trial)
+    public void reportVectorSupport() {
+        System.out.println("vectorAvailable=" + ColumnarInventory.isVectorUpdateAvailable());
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        inventory = ColumnarInventory.fromItems(profile.generate(size, 42));
+    }
+
+    @Benchmark
+    public ColumnarInventory scalar() {
+        inventory.updateQuality();
+        return inventory;
+    }
+
+    @Benchmark
+    public ColumnarInventory vectorized() {
+        inventory.updateQualityVectorized();
+        return inventory;
+    }
+}
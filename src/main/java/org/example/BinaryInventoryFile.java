@@ -0,0 +1,249 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  BinaryInventoryFile
+  @version  1.0.0 
+  @since 18.10.26 - 15.40
+*/
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary inventory snapshot that can be updated in place through a memory
+ * mapping. All values are little-endian.
+ *
+ * <pre>
+ * header   magic, version, item count, name count (int each), records offset, days applied (long each)
+ * names    per distinct name: UTF-8 byte length (int) and bytes
+ * records  per item, 16 bytes: name id, sell-by day, quality (int each), category code (byte), padding
+ * </pre>
+ *
+ * The sell-by day is the sellIn plus the days applied, so it stays fixed while the
+ * sellIn read back counts down; Sulfuras stores its sellIn as is. An update therefore
+ * only stores qualities that actually change, and pages holding nothing but Sulfuras
+ * and settled items ({@link QualityRules#isSettled}) are never dirtied or written back.
+ */
+public final class BinaryInventoryFile {
+    static final int MAGIC = 0x47524946;
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 16;
+
+    private static final int SELL_BY_OFFSET = 4;
+    private static final int QUALITY_OFFSET = 8;
+    private static final int CATEGORY_OFFSET = 12;
+    private static final long DAYS_POSITION = 24;
+    private static final int RECORDS_PER_WINDOW = (1 << 30) / RECORD_SIZE;
+
+    private BinaryInventoryFile() {
+    }
+
+    public static void write(Path path, Item[] items) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<byte[]> names = new ArrayList<>();
+        int[] nameIds = new int[items.length];
+        long namesSize = 0;
+        for (int i = 0; i < items.length; i++) {
+            Integer id = ids.get(items[i].name);
+            if (id == null) {
+                id = names.size();
+                byte[] encoded = items[i].name.getBytes(StandardCharsets.UTF_8);
+                names.add(encoded);
+                ids.put(items[i].name, id);
+                namesSize += Integer.BYTES + encoded.length;
+            }
+            nameIds[i] = id;
+        }
+        long recordsOffset = align(HEADER_SIZE + namesSize, RECORD_SIZE);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(items.length).putInt(names.size())
+                    .putLong(recordsOffset).putLong(0);
+            for (byte[] name : names) {
+                ensureRemaining(channel, buffer, Integer.BYTES);
+                buffer.putInt(name.length);
+                for (int offset = 0; offset < name.length; ) {
+                    ensureRemaining(channel, buffer, 1);
+                    int length = Math.min(buffer.remaining(), name.length - offset);
+                    buffer.put(name, offset, length);
+                    offset += length;
+                }
+            }
+            for (long position = HEADER_SIZE + namesSize; position < recordsOffset; position++) {
+                ensureRemaining(channel, buffer, 1);
+                buffer.put((byte) 0);
+            }
+            for (int i = 0; i < items.length; i++) {
+                ensureRemaining(channel, buffer, RECORD_SIZE);
+                buffer.putInt(nameIds[i]).putInt(items[i].sellIn).putInt(items[i].quality)
+                        .put(items[i].category().code()).put((byte) 0).putShort((short) 0);
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    public static Item[] read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            MappedByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE,
+                    header.recordsOffset - HEADER_SIZE);
+            names.order(ByteOrder.LITTLE_ENDIAN);
+            String[] dictionary = new String[header.nameCount];
+            for (int n = 0; n < dictionary.length; n++) {
+                byte[] bytes = new byte[names.getInt()];
+                names.get(bytes);
+                dictionary[n] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            Item[] items = new Item[header.itemCount];
+            for (int from = 0; from < items.length; from += RECORDS_PER_WINDOW) {
+                int count = Math.min(RECORDS_PER_WINDOW, items.length - from);
+                MappedByteBuffer records = mapRecords(channel, FileChannel.MapMode.READ_ONLY, header, from, count);
+                for (int i = 0; i < count; i++) {
+                    int base = i * RECORD_SIZE;
+                    ItemCategory category = ItemCategory.fromCode(records.get(base + CATEGORY_OFFSET));
+                    int sellIn = sellIn(category, records.getInt(base + SELL_BY_OFFSET), header.daysApplied);
+                    items[from + i] = new Item(dictionary[records.getInt(base)], sellIn,
+                            records.getInt(base + QUALITY_OFFSET));
+                }
+            }
+            return items;
+        }
+    }
+
+    /**
+     * Advances every record by {@code days} days directly in the mapped file and returns
+     * the number of records that changed.
+     */
+    public static long updateQuality(Path path, int days) throws IOException {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        long changed = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            Header header = readHeader(channel);
+            for (int from = 0; from < header.itemCount; from += RECORDS_PER_WINDOW) {
+                int count = Math.min(RECORDS_PER_WINDOW, header.itemCount - from);
+                MappedByteBuffer records = mapRecords(channel, FileChannel.MapMode.READ_WRITE, header, from, count);
+                changed += updateRecords(records, count, header.daysApplied, days);
+                records.force();
+            }
+            ByteBuffer daysApplied = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            daysApplied.putLong(header.daysApplied + days).flip();
+            channel.write(daysApplied, DAYS_POSITION);
+            channel.force(false);
+        }
+        return changed;
+    }
+
+    /**
+     * Total number of days applied to the file through {@link #updateQuality(Path, int)}.
+     */
+    public static long daysApplied(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readHeader(channel).daysApplied;
+        }
+    }
+
+    private static long updateRecords(MappedByteBuffer records, int count, long daysApplied, int days) {
+        long changed = 0;
+        for (int i = 0; i < count; i++) {
+            int base = i * RECORD_SIZE;
+            ItemCategory category = ItemCategory.fromCode(records.get(base + CATEGORY_OFFSET));
+            int sellIn = sellIn(category, records.getInt(base + SELL_BY_OFFSET), daysApplied);
+            int quality = records.getInt(base + QUALITY_OFFSET);
+            int nextQuality = QualityRules.qualityAfter(category, sellIn, quality, days);
+            if (nextQuality != quality) {
+                records.putInt(base + QUALITY_OFFSET, nextQuality);
+            }
+            if (nextQuality != quality || QualityRules.sellInAfter(category, sellIn, days) != sellIn) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * The sellIn of an item whose record holds {@code sellBy} once {@code daysApplied}
+     * days have been applied. Both directions wrap around alike, so any int round-trips.
+     */
+    private static int sellIn(ItemCategory category, int sellBy, long daysApplied) {
+        return QualityRules.sellInAfter(category, sellBy, (int) daysApplied);
+    }
+
+    private static MappedByteBuffer mapRecords(FileChannel channel, FileChannel.MapMode mode, Header header,
+                                               int from, int count) throws IOException {
+        long position = header.recordsOffset + (long) from * RECORD_SIZE;
+        MappedByteBuffer records = channel.map(mode, position, (long) count * RECORD_SIZE);
+        records.order(ByteOrder.LITTLE_ENDIAN);
+        return records;
+    }
+
+    private static Header readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw new IOException("Truncated inventory header");
+            }
+        }
+        buffer.flip();
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary inventory file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported inventory file version " + version);
+        }
+        Header header = new Header(buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong());
+        if (channel.size() < header.recordsOffset + (long) header.itemCount * RECORD_SIZE) {
+            throw new IOException("Truncated inventory records");
+        }
+        return header;
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain(channel, buffer);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static long align(long value, int alignment) {
+        return (value + alignment - 1) / alignment * alignment;
+    }
+
+    private static final class Header {
+        final int itemCount;
+        final int nameCount;
+        final long recordsOffset;
+        final long daysApplied;
+
+        Header(int itemCount, int nameCount, long recordsOffset, long daysApplied) {
+            this.itemCount = itemCount;
+            this.nameCount = nameCount;
+            this.recordsOffset = recordsOffset;
+            this.daysApplied = daysApplied;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  CategoryPartitions
+  @version  1.0.0 
+  @since 18.10.26 - 14.05
+*/
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Slot lists of an {@code Item[]} grouped by {@link ItemCategory}. The daily update
+ * hands each list to the category's {@link StandardRule}, one tight loop per
+ * category, so the branches inside a loop always go the same way and Sulfuras items
+ * are never visited at all.
+ */
+public final class CategoryPartitions {
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private static final StandardRule[] RULES = new StandardRule[CATEGORIES.length];
+
+    static {
+        for (ItemCategory category : CATEGORIES) {
+            RULES[category.ordinal()] = StandardRule.of(category);
+        }
+    }
+
+    private final Item[] items;
+    private final int[][] slots = new int[CATEGORIES.length][];
+
+    private CategoryPartitions(Item[] items) {
+        this.items = items;
+        refresh();
+    }
+
+    public static CategoryPartitions of(Item[] items) {
+        return new CategoryPartitions(items);
+    }
+
+    /**
+     * Re-partitions the items, needed after items are renamed or slots replaced.
+     */
+    public void refresh() {
+        int[] counts = new int[CATEGORIES.length];
+        for (Item item : items) {
+            counts[item.category().ordinal()]++;
+        }
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            slots[c] = new int[counts[c]];
+            counts[c] = 0;
+        }
+        for (int i = 0; i < items.length; i++) {
+            int c = items[i].category().ordinal();
+            slots[c][counts[c]++] = i;
+        }
+    }
+
+    public void updateQuality() {
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            RULES[c].updateAll(items, slots[c], slots[c].length);
+        }
+    }
+
+    /**
+     * Same result as {@link #updateQuality()}, counted into {@code metrics} together
+     * with the time spent on each category; a {@code null} metrics runs the plain update.
+     */
+    public void updateQuality(UpdateMetrics metrics) {
+        if (metrics == null) {
+            updateQuality();
+            return;
+        }
+        UpdateRunStats run = metrics.startRun();
+        long start = System.nanoTime();
+        for (ItemCategory category : CATEGORIES) {
+            int[] categorySlots = slots[category.ordinal()];
+            if (category == ItemCategory.SULFURAS) {
+                run.skipped(category, categorySlots.length);
+                continue;
+            }
+            long categoryStart = System.nanoTime();
+            run.updateSlots(category, items, categorySlots);
+            run.categoryNanos(category, System.nanoTime() - categoryStart);
+        }
+        run.finish(System.nanoTime() - start);
+        metrics.record(run);
+    }
+
+    public int size(ItemCategory category) {
+        return slots[category.ordinal()].length;
+    }
+
+    public Map<ItemCategory, int[]> slots() {
+        Map<ItemCategory, int[]> copy = new EnumMap<>(ItemCategory.class);
+        for (ItemCategory category : CATEGORIES) {
+            copy.put(category, slots[category.ordinal()].clone());
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ColumnarInventory
+  @version  1.0.0 
+  @since 18.10.26 - 10.30
+*/
+
+/**
+ * Structure-of-arrays copy of an {@code Item[]}: names, one category byte and the two
+ * counters live in parallel arrays, so the daily update walks primitive memory only.
+ */
+public final class ColumnarInventory {
+    private static final boolean VECTOR_UPDATE = !Boolean.getBoolean("gildedrose.vector.disabled")
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && VectorQualityKernel.isSupported();
+
+    private final String[] names;
+    private final byte[] categories;
+    private final int[] sellIn;
+    private final int[] quality;
+
+    private ColumnarInventory(String[] names, byte[] categories, int[] sellIn, int[] quality) {
+        this.names = names;
+        this.categories = categories;
+        this.sellIn = sellIn;
+        this.quality = quality;
+    }
+
+    public static ColumnarInventory fromItems(Item[] items) {
+        int size = items.length;
+        String[] names = new String[size];
+        byte[] categories = new byte[size];
+        int[] sellIn = new int[size];
+        int[] quality = new int[size];
+        for (int i = 0; i < size; i++) {
+            Item item = items[i];
+            names[i] = item.name;
+            categories[i] = item.category().code();
+            sellIn[i] = item.sellIn;
+            quality[i] = item.quality;
+        }
+        return new ColumnarInventory(names, categories, sellIn, quality);
+    }
+
+    public Item[] toItems() {
+        Item[] items = new Item[names.length];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Item(names[i], sellIn[i], quality[i]);
+        }
+        return items;
+    }
+
+    /**
+     * Writes the counters back into existing items, which must be the array this
+     * inventory was built from (or one with the same layout).
+     */
+    public void copyTo(Item[] items) {
+        if (items.length != names.length) {
+            throw new IllegalArgumentException("Expected " + names.length + " items but got " + items.length);
+        }
+        for (int i = 0; i < items.length; i++) {
+            items[i].sellIn = sellIn[i];
+            items[i].quality = quality[i];
+        }
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public ItemCategory category(int index) {
+        return ItemCategory.fromCode(categories[index]);
+    }
+
+    public int sellIn(int index) {
+        return sellIn[index];
+    }
+
+    public int quality(int index) {
+        return quality[index];
+    }
+
+    /**
+     * Whether {@link #updateQualityVectorized()} runs on the Vector API. It needs the
+     * JVM started with {@code --add-modules jdk.incubator.vector} on hardware with
+     * vectors of at least 256 bits, and can be switched off with
+     * {@code -Dgildedrose.vector.disabled=true}.
+     */
+    public static boolean isVectorUpdateAvailable() {
+        return VECTOR_UPDATE;
+    }
+
+    /**
+     * Same result as {@link #updateQuality()}, processing several items per instruction
+     * when the Vector API is available and falling back to the scalar loop otherwise.
+     */
+    public void updateQualityVectorized() {
+        if (VECTOR_UPDATE) {
+            VectorQualityKernel.update(categories, sellIn, quality);
+        } else {
+            updateQuality();
+        }
+    }
+
+    public void updateQuality() {
+        for (int i = 0; i < names.length; i++) {
+            ItemCategory category = ItemCategory.fromCode(categories[i]);
+            int currentSellIn = sellIn[i];
+            quality[i] = QualityRules.nextQuality(category, currentSellIn, quality[i]);
+            sellIn[i] = QualityRules.nextSellIn(category, currentSellIn);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ConcurrentInventory
+  @version  1.0.0 
+  @since 18.10.26 - 17.05
+*/
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inventory that request threads can read and change while a rollover runs. Items
+ * are spread over lock stripes by id; a rollover locks one stripe at a time, so all
+ * other stripes stay available, and readers only ever get copies taken under the
+ * stripe lock.
+ *
+ * <p>The state passed to {@link #add(Item)} is taken as the item's state on
+ * {@link #day()}. An item added to a stripe that a running rollover has already
+ * processed is moved forward to match the rest of that stripe.
+ */
+public final class ConcurrentInventory {
+    private final Stripe[] stripes;
+    private final int mask;
+    private final AtomicLong nextId = new AtomicLong();
+    private final Object rolloverLock = new Object();
+    private volatile int day;
+
+    public ConcurrentInventory() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public ConcurrentInventory(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        stripes = new Stripe[Math.max(1, size)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        mask = stripes.length - 1;
+    }
+
+    public static ConcurrentInventory of(Item[] items) {
+        ConcurrentInventory inventory = new ConcurrentInventory();
+        for (Item item : items) {
+            inventory.add(item);
+        }
+        return inventory;
+    }
+
+    /**
+     * Stores a copy of the item and returns its id.
+     */
+    public long add(Item item) {
+        long id = nextId.getAndIncrement();
+        Item copy = new Item(item.name, item.sellIn, item.quality);
+        Stripe stripe = stripeOf(id);
+        stripe.lock.writeLock().lock();
+        try {
+            int behind = stripe.day - day;
+            if (behind > 0) {
+                GlidedRose.advanceRange(new Item[]{copy}, 0, 1, behind);
+            }
+            stripe.items.put(id, copy);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+        return id;
+    }
+
+    /**
+     * Removes an item, returning its last state, or {@code null} if there was none.
+     */
+    public Item remove(long id) {
+        Stripe stripe = stripeOf(id);
+        stripe.lock.writeLock().lock();
+        try {
+            return stripe.items.remove(id);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A copy of the item's current state, or {@code null} if there is no such item.
+     */
+    public Item get(long id) {
+        Stripe stripe = stripeOf(id);
+        stripe.lock.readLock().lock();
+        try {
+            Item item = stripe.items.get(id);
+            return item == null ? null : new Item(item.name, item.sellIn, item.quality);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                size += stripe.items.size();
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Number of completed rollovers.
+     */
+    public int day() {
+        return day;
+    }
+
+    public void updateQuality() {
+        advanceDays(1);
+    }
+
+    public void advanceDays(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        synchronized (rolloverLock) {
+            for (Stripe stripe : stripes) {
+                stripe.lock.writeLock().lock();
+                try {
+                    for (Item item : stripe.items.values()) {
+                        QualityRules.advance(item, days);
+                    }
+                    stripe.day += days;
+                } finally {
+                    stripe.lock.writeLock().unlock();
+                }
+            }
+            day += days;
+        }
+    }
+
+    /**
+     * Copies of all items, consistent per stripe. Taken during a rollover, stripes
+     * may be a day apart.
+     */
+    public Map<Long, Item> snapshot() {
+        Map<Long, Item> snapshot = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                for (Map.Entry<Long, Item> entry : stripe.items.entrySet()) {
+                    Item item = entry.getValue();
+                    snapshot.put(entry.getKey(), new Item(item.name, item.sellIn, item.quality));
+                }
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    public List<Long> ids() {
+        List<Long> ids = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                ids.addAll(stripe.items.keySet());
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return ids;
+    }
+
+    private Stripe stripeOf(long id) {
+        return stripes[(int) (id ^ (id >>> 32)) & mask];
+    }
+
+    private static final class Stripe {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<Long, Item> items = new HashMap<>();
+        int day;
+    }
+}
@@ -0,0 +1,142 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  FixedPointInventory
+  @version  1.0.0 
+  @since 18.10.26 - 16.20
+*/
+
+/**
+ * Daily update that only visits items whose quality can still change. Once an item
+ * settles (see {@link QualityRules#isSettled}) it leaves the active list, and its
+ * sellIn is derived from the day counter when read instead of being decremented.
+ *
+ * <p>The {@code sellIn} field of a settled {@link Item} is stale until the item is
+ * read through {@link #item(int)} or {@link #items()}. Call {@link #refresh(int)}
+ * after changing an item directly.
+ */
+public final class FixedPointInventory {
+    private static final int ACTIVE = -1;
+
+    private final Item[] items;
+    private final int[] active;
+    private final int[] activePosition;
+    private final int[] settledSellIn;
+    private final int[] settledDay;
+    private int activeCount;
+    private int day;
+
+    public FixedPointInventory(Item[] items) {
+        this.items = items;
+        this.active = new int[items.length];
+        this.activePosition = new int[items.length];
+        this.settledSellIn = new int[items.length];
+        this.settledDay = new int[items.length];
+        for (int slot = 0; slot < items.length; slot++) {
+            settledDay[slot] = ACTIVE;
+            activePosition[slot] = activeCount;
+            active[activeCount++] = slot;
+            settleIfFixed(slot);
+        }
+    }
+
+    public void updateQuality() {
+        day++;
+        int i = 0;
+        while (i < activeCount) {
+            int slot = active[i];
+            QualityRules.update(items[slot]);
+            if (!settleIfFixed(slot)) {
+                i++;
+            }
+        }
+    }
+
+    public int day() {
+        return day;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public int activeCount() {
+        return activeCount;
+    }
+
+    public int settledCount() {
+        return items.length - activeCount;
+    }
+
+    public boolean isSettled(int slot) {
+        return settledDay[slot] != ACTIVE;
+    }
+
+    public int sellIn(int slot) {
+        if (settledDay[slot] == ACTIVE) {
+            return items[slot].sellIn;
+        }
+        return QualityRules.sellInAfter(items[slot].category(), settledSellIn[slot], day - settledDay[slot]);
+    }
+
+    public int quality(int slot) {
+        return items[slot].quality;
+    }
+
+    /**
+     * The item with its sellIn brought up to date.
+     */
+    public Item item(int slot) {
+        Item item = items[slot];
+        if (settledDay[slot] != ACTIVE) {
+            item.sellIn = sellIn(slot);
+            settledSellIn[slot] = item.sellIn;
+            settledDay[slot] = day;
+        }
+        return item;
+    }
+
+    /**
+     * The backing array with every sellIn brought up to date.
+     */
+    public Item[] items() {
+        for (int slot = 0; slot < items.length; slot++) {
+            item(slot);
+        }
+        return items;
+    }
+
+    /**
+     * Re-evaluates a slot after its item was changed or replaced directly. The item's
+     * fields are taken as its state for the current day, except that the sellIn of a
+     * settled item still holding the value it was last brought up to date with is
+     * advanced by the days since, as {@link #item(int)} would have done.
+     */
+    public void refresh(int slot) {
+        if (settledDay[slot] != ACTIVE) {
+            Item item = items[slot];
+            if (item.sellIn == settledSellIn[slot]) {
+                item.sellIn = sellIn(slot);
+            }
+            settledDay[slot] = ACTIVE;
+            activePosition[slot] = activeCount;
+            active[activeCount++] = slot;
+        }
+        settleIfFixed(slot);
+    }
+
+    private boolean settleIfFixed(int slot) {
+        Item item = items[slot];
+        if (!QualityRules.isSettled(item.category(), item.sellIn, item.quality)) {
+            return false;
+        }
+        settledSellIn[slot] = item.sellIn;
+        settledDay[slot] = day;
+        int position = activePosition[slot];
+        int last = active[--activeCount];
+        active[position] = last;
+        activePosition[last] = position;
+        return true;
+    }
+}
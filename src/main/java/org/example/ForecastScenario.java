@@ -0,0 +1,42 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ForecastScenario
+  @version  1.0.0 
+  @since 18.10.26 - 14.20
+*/
+
+/**
+ * Random sales and restocking applied each simulated day of a
+ * {@link MonteCarloForecaster} run: every item in stock is sold with probability
+ * {@code saleRate}, and every sold item is restocked, in its original state, with
+ * probability {@code restockRate}.
+ */
+public final class ForecastScenario {
+    public static final ForecastScenario NO_SALES = new ForecastScenario(0, 0);
+
+    private final double saleRate;
+    private final double restockRate;
+
+    public ForecastScenario(double saleRate, double restockRate) {
+        checkRate("Sale", saleRate);
+        checkRate("Restock", restockRate);
+        this.saleRate = saleRate;
+        this.restockRate = restockRate;
+    }
+
+    public double saleRate() {
+        return saleRate;
+    }
+
+    public double restockRate() {
+        return restockRate;
+    }
+
+    private static void checkRate(String kind, double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException(kind + " rate must be within 0..1: " + rate);
+        }
+    }
+}
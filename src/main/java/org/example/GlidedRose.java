@@ -7,66 +7,283 @@ package org.example;
   @since 07.04.24 - 22.02
 */
 
-import lombok.AllArgsConstructor;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 @Data
-@AllArgsConstructor
 public class GlidedRose {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
     Item[] items;
 
+    /** Built on first use by the name lookup and add/remove methods. */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient ItemNameIndex nameIndex;
 
+    /** Scratch space of instrumented updates, kept between runs. */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient int[] runLists;
+
+    public GlidedRose(Item[] items) {
+        this.items = items;
+    }
+
+    public void setItems(Item[] items) {
+        this.items = items;
+        this.nameIndex = null;
+    }
 
     public void updateQuality() {
+        updateRange(items, 0, items.length);
+    }
+
+    /**
+     * Same result as {@link #updateQuality()}, counted into {@code metrics}; a
+     * {@code null} metrics runs the plain update.
+     */
+    public void updateQuality(UpdateMetrics metrics) {
+        if (metrics == null) {
+            updateQuality();
+            return;
+        }
+        Item[] items = this.items;
+        int[] lists = runLists;
+        if (lists == null || lists.length < UpdateRunStats.listsLength(items.length)) {
+            lists = runLists = new int[UpdateRunStats.listsLength(items.length)];
+        }
+        UpdateRunStats run = metrics.startRun();
+        long start = System.nanoTime();
+        run.updateRange(items, 0, items.length, lists);
+        run.finish(System.nanoTime() - start);
+        metrics.record(run);
+    }
+
+    /**
+     * Same result as {@link #updateQuality()}, publishing an event for every item whose
+     * sellIn or quality changed; a {@code null} ring runs the plain update. All events
+     * are visible to subscribers when this returns.
+     */
+    public void updateQualityAndPublish(ItemChangeRingBuffer events) {
+        if (events == null) {
+            updateQuality();
+            return;
+        }
         for (int i = 0; i < items.length; i++) {
-            if (!items[i].name.equals("Aged Brie")
-                    && !items[i].name.equals("Backstage passes to a TAFKAL80ETC concert")) {
-                if (items[i].quality > 0) {
-                    if (!items[i].name.equals("Sulfuras, Hand of Ragnaros")) {
-                        items[i].quality = items[i].quality - 1;
-                    }
-                }
-            } else {
-                if (items[i].quality < 50) {
-                    items[i].quality = items[i].quality + 1;
-
-                    if (items[i].name.equals("Backstage passes to a TAFKAL80ETC concert")) {
-                        if (items[i].sellIn < 11) {
-                            if (items[i].quality < 50) {
-                                items[i].quality = items[i].quality + 1;
-                            }
-                        }
-
-                        if (items[i].sellIn < 6) {
-                            if (items[i].quality < 50) {
-                                items[i].quality = items[i].quality + 1;
-                            }
-                        }
-                    }
-                }
+            Item item = items[i];
+            int sellIn = item.sellIn;
+            int quality = item.quality;
+            if (QualityRules.update(item)) {
+                events.publish(i, sellIn, item.sellIn, quality, item.quality);
             }
+        }
+        events.flush();
+    }
 
-            if (!items[i].name.equals("Sulfuras, Hand of Ragnaros")) {
-                items[i].sellIn = items[i].sellIn - 1;
-            }
+    /**
+     * Moves every item to the state {@code days} calls of {@link #updateQuality()}
+     * would leave it in, in constant time per item.
+     */
+    public void advanceDays(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        advanceRange(items, 0, items.length, days);
+    }
 
-            if (items[i].sellIn < 0) {
-                if (!items[i].name.equals("Aged Brie")) {
-                    if (!items[i].name.equals("Backstage passes to a TAFKAL80ETC concert")) {
-                        if (items[i].quality > 0) {
-                            if (!items[i].name.equals("Sulfuras, Hand of Ragnaros")) {
-                                items[i].quality = items[i].quality - 1;
-                            }
-                        }
-                    } else {
-                        items[i].quality = items[i].quality - items[i].quality;
-                    }
-                } else {
-                    if (items[i].quality < 50) {
-                        items[i].quality = items[i].quality + 1;
-                    }
-                }
-            }
+    public void updateQualityParallel() {
+        updateQualityParallel(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Same result as {@link #updateQuality()}, with ranges of at most {@code threshold}
+     * items updated as fork/join tasks on the given pool.
+     */
+    public void updateQualityParallel(ForkJoinPool pool, int threshold) {
+        checkChunkSize(threshold);
+        pool.invoke(new UpdateQualityTask(items, 0, items.length, threshold));
+    }
+
+    /**
+     * Same result as {@link #updateQuality()}, with fixed chunks of {@code chunkSize}
+     * items submitted to the given executor. Returns once every chunk is done.
+     */
+    public void updateQualityParallel(Executor executor, int chunkSize) {
+        checkChunkSize(chunkSize);
+        Item[] snapshot = items;
+        int chunks = snapshot.length == 0 ? 0 : 1 + (snapshot.length - 1) / chunkSize;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * chunkSize;
+            int to = (int) Math.min(snapshot.length, (long) from + chunkSize);
+            futures[chunk] = CompletableFuture.runAsync(() -> updateRange(snapshot, from, to), executor);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public String name(int index) {
+        return items[index].name;
+    }
+
+    public ItemCategory category(int index) {
+        return items[index].category();
+    }
+
+    public int sellIn(int index) {
+        return items[index].sellIn;
+    }
+
+    public int quality(int index) {
+        return items[index].quality;
+    }
+
+    public void setSellIn(int index, int sellIn) {
+        items[index].sellIn = sellIn;
+    }
+
+    public void setQuality(int index, int quality) {
+        items[index].quality = quality;
+    }
+
+    /**
+     * Copies the sellIn of items {@code from} (inclusive) to {@code to} (exclusive)
+     * into {@code target}, starting at {@code offset}.
+     */
+    public void readSellIn(int from, int to, int[] target, int offset) {
+        checkReadRange(from, to, target, offset);
+        for (int i = from; i < to; i++) {
+            target[offset++] = items[i].sellIn;
+        }
+    }
+
+    /**
+     * Copies the quality of items {@code from} (inclusive) to {@code to} (exclusive)
+     * into {@code target}, starting at {@code offset}.
+     */
+    public void readQuality(int from, int to, int[] target, int offset) {
+        checkReadRange(from, to, target, offset);
+        for (int i = from; i < to; i++) {
+            target[offset++] = items[i].quality;
+        }
+    }
+
+    /**
+     * A new cursor over this inventory; keep and reuse it rather than creating one per read.
+     */
+    public ItemView view() {
+        return new ItemView(this);
+    }
+
+    /**
+     * A slot holding an item with this name, or -1 if there is none. Constant time
+     * however large the inventory; see {@link #nextIndexOf(String, int)} for names
+     * held by several items.
+     *
+     * <p>The index follows {@link #addItem(Item)}, {@link #removeItem(int)} and
+     * {@link #setItems(Item[])}. Call {@link #reindex()} after replacing items or
+     * renaming them directly.
+     */
+    public int indexOf(String name) {
+        return nameIndex().first(items, name);
+    }
+
+    /**
+     * Another slot holding an item with this name after {@code slot}, which must
+     * itself hold one, or -1 if there is none. Slots come in no particular order.
+     */
+    public int nextIndexOf(String name, int slot) {
+        return nameIndex().next(items, name, slot);
+    }
+
+    /**
+     * Appends the item and returns its slot, the last one. The array is replaced by a
+     * copy one longer, so add many items at once through {@link #setItems(Item[])}.
+     */
+    public int addItem(Item item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item must not be null");
+        }
+        ItemNameIndex index = nameIndex();
+        int slot = items.length;
+        items = Arrays.copyOf(items, slot + 1);
+        items[slot] = item;
+        index.add(slot, item.name);
+        return slot;
+    }
+
+    /**
+     * Removes the item in the slot and returns it. The last item moves into the slot
+     * and the array is replaced by a copy one shorter, so it never holds {@code null};
+     * the moved item is the only one whose slot changes.
+     */
+    public Item removeItem(int slot) {
+        Item item = items[slot];
+        ItemNameIndex index = nameIndex();
+        index.remove(slot, item.name);
+        int last = items.length - 1;
+        if (slot != last) {
+            Item moved = items[last];
+            index.move(last, slot, moved.name);
+            items[slot] = moved;
+        }
+        items = Arrays.copyOf(items, last);
+        return item;
+    }
+
+    /**
+     * Rebuilds the name index from the current items.
+     */
+    public void reindex() {
+        nameIndex = new ItemNameIndex(items);
+    }
+
+    private ItemNameIndex nameIndex() {
+        if (nameIndex == null) {
+            nameIndex = new ItemNameIndex(items);
+        }
+        return nameIndex;
+    }
+
+    static void updateRange(Item[] items, int from, int to) {
+        for (int i = from; i < to; i++) {
+            QualityRules.update(items[i]);
+        }
+    }
+
+    static void advanceRange(Item[] items, int from, int to, int days) {
+        for (int i = from; i < to; i++) {
+            QualityRules.advance(items[i], days);
+        }
+    }
+
+    private void checkReadRange(int from, int to, int[] target, int offset) {
+        if (from < 0 || to > items.length || from > to || offset < 0 || offset + (to - from) > target.length) {
+            throw new IndexOutOfBoundsException("Cannot copy items " + from + ".." + to
+                    + " to offset " + offset + " of " + target.length);
+        }
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
         }
     }
 }
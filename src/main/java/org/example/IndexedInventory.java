@@ -0,0 +1,252 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  IndexedInventory
+  @version  1.0.0 
+  @since 18.10.26 - 21.00
+*/
+
+import java.util.Arrays;
+
+/**
+ * Items with secondary indexes kept current by {@link #updateQuality()}:
+ * <ul>
+ *     <li>slot lists per {@link ItemCategory};</li>
+ *     <li>an expiry index. Every item except Sulfuras loses one sellIn per day, so
+ *     {@code sellIn + day} never changes and the index is sorted once; a sellIn range
+ *     is a shifted key range found by binary search;</li>
+ *     <li>quality buckets for 0 to 50 plus one below and one above, updated only for
+ *     items whose quality changed.</li>
+ * </ul>
+ * Sulfuras items never expire and are left out of the expiry queries. Query results
+ * are slot numbers into the item array. After changing items directly, call
+ * {@link #rebuild()}.
+ */
+public final class IndexedInventory {
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+    private static final int BUCKETS = QualityRules.MAX_QUALITY + 3;
+
+    private final Item[] items;
+    private final int[][] categorySlots = new int[CATEGORIES.length][];
+    private final long[][] expiryByCategory = new long[CATEGORIES.length][];
+    private long[] expiry;
+    private final int[][] bucketSlots = new int[BUCKETS][];
+    private final int[] bucketSizes = new int[BUCKETS];
+    private final int[] bucketOf;
+    private final int[] positionInBucket;
+    private int day;
+
+    public IndexedInventory(Item[] items) {
+        this.items = items;
+        this.bucketOf = new int[items.length];
+        this.positionInBucket = new int[items.length];
+        rebuild();
+    }
+
+    /**
+     * Rebuilds all indexes from the items, taking their fields as the current state.
+     */
+    public void rebuild() {
+        int[] counts = new int[CATEGORIES.length];
+        for (Item item : items) {
+            counts[item.category().ordinal()]++;
+        }
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            categorySlots[c] = new int[counts[c]];
+            expiryByCategory[c] = new long[CATEGORIES[c] == ItemCategory.SULFURAS ? 0 : counts[c]];
+            counts[c] = 0;
+        }
+        for (int b = 0; b < BUCKETS; b++) {
+            bucketSlots[b] = new int[8];
+            bucketSizes[b] = 0;
+        }
+
+        int expiring = 0;
+        for (int slot = 0; slot < items.length; slot++) {
+            Item item = items[slot];
+            int c = item.category().ordinal();
+            if (CATEGORIES[c] != ItemCategory.SULFURAS) {
+                expiryByCategory[c][counts[c]] = expiryEntry(item.sellIn + day, slot);
+                expiring++;
+            }
+            categorySlots[c][counts[c]++] = slot;
+            addToBucket(slot, bucket(item.quality));
+        }
+
+        expiry = new long[expiring];
+        int offset = 0;
+        for (long[] entries : expiryByCategory) {
+            Arrays.sort(entries);
+            System.arraycopy(entries, 0, expiry, offset, entries.length);
+            offset += entries.length;
+        }
+        Arrays.sort(expiry);
+    }
+
+    public void updateQuality() {
+        day++;
+        for (int slot = 0; slot < items.length; slot++) {
+            Item item = items[slot];
+            ItemCategory category = item.category();
+            if (category == ItemCategory.SULFURAS) {
+                continue;
+            }
+            int quality = item.quality;
+            QualityRules.update(item, category);
+            if (item.quality != quality) {
+                int bucket = bucket(item.quality);
+                if (bucket != bucketOf[slot]) {
+                    removeFromBucket(slot);
+                    addToBucket(slot, bucket);
+                }
+            }
+        }
+    }
+
+    public int day() {
+        return day;
+    }
+
+    public Item item(int slot) {
+        return items[slot];
+    }
+
+    public int[] byCategory(ItemCategory category) {
+        return categorySlots[category.ordinal()].clone();
+    }
+
+    /**
+     * Slots of items with {@code 0 <= sellIn <= days}, soonest first.
+     */
+    public int[] expiringWithin(int days) {
+        return expiryRange(expiry, days);
+    }
+
+    public int[] expiringWithin(ItemCategory category, int days) {
+        return expiryRange(expiryByCategory[category.ordinal()], days);
+    }
+
+    /**
+     * The {@code k} items with the smallest sellIn that is not yet negative.
+     */
+    public int[] soonestExpiring(int k) {
+        int from = lowerBound(expiry, day);
+        int to = Math.min(expiry.length, from + Math.max(0, k));
+        return slotsOf(expiry, from, to);
+    }
+
+    public int[] qualityBetween(int min, int max) {
+        int[] result = new int[countQualityBetween(min, max)];
+        if (result.length == 0) {
+            return result;
+        }
+        int filled = 0;
+        for (int b = bucket(min); b <= bucket(max); b++) {
+            for (int i = 0; i < bucketSizes[b]; i++) {
+                int slot = bucketSlots[b][i];
+                int quality = items[slot].quality;
+                if (!isOuterBucket(b) || (quality >= min && quality <= max)) {
+                    result[filled++] = slot;
+                }
+            }
+        }
+        return result;
+    }
+
+    public int countQualityBetween(int min, int max) {
+        if (min > max) {
+            return 0;
+        }
+        int first = bucket(min);
+        int last = bucket(max);
+        int count = 0;
+        for (int b = first; b <= last; b++) {
+            // the two outer buckets hold many quality values, the others exactly one
+            count += isOuterBucket(b) ? countInBucket(b, min, max) : bucketSizes[b];
+        }
+        return count;
+    }
+
+    /**
+     * The {@code k} items with the highest quality; above 50 the order is unspecified.
+     */
+    public int[] highestQuality(int k) {
+        int[] result = new int[Math.min(Math.max(0, k), items.length)];
+        int filled = 0;
+        for (int b = BUCKETS - 1; b >= 0 && filled < result.length; b--) {
+            for (int i = 0; i < bucketSizes[b] && filled < result.length; i++) {
+                result[filled++] = bucketSlots[b][i];
+            }
+        }
+        return result;
+    }
+
+    private int[] expiryRange(long[] entries, int days) {
+        if (days < 0) {
+            return new int[0];
+        }
+        int from = lowerBound(entries, day);
+        int to = lowerBound(entries, (long) day + days + 1);
+        return slotsOf(entries, from, to);
+    }
+
+    private int countInBucket(int bucket, int min, int max) {
+        int count = 0;
+        for (int i = 0; i < bucketSizes[bucket]; i++) {
+            int quality = items[bucketSlots[bucket][i]].quality;
+            if (quality >= min && quality <= max) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void addToBucket(int slot, int bucket) {
+        int size = bucketSizes[bucket];
+        if (size == bucketSlots[bucket].length) {
+            bucketSlots[bucket] = Arrays.copyOf(bucketSlots[bucket], size * 2);
+        }
+        bucketSlots[bucket][size] = slot;
+        bucketSizes[bucket] = size + 1;
+        bucketOf[slot] = bucket;
+        positionInBucket[slot] = size;
+    }
+
+    private void removeFromBucket(int slot) {
+        int bucket = bucketOf[slot];
+        int position = positionInBucket[slot];
+        int last = bucketSlots[bucket][--bucketSizes[bucket]];
+        bucketSlots[bucket][position] = last;
+        positionInBucket[last] = position;
+    }
+
+    private static boolean isOuterBucket(int bucket) {
+        return bucket == 0 || bucket == BUCKETS - 1;
+    }
+
+    private static int bucket(int quality) {
+        if (quality < 0) {
+            return 0;
+        }
+        return quality > QualityRules.MAX_QUALITY ? BUCKETS - 1 : quality + 1;
+    }
+
+    private static long expiryEntry(long key, int slot) {
+        return (key << 32) | slot;
+    }
+
+    /** First index whose entry key is at least {@code key}. */
+    private static int lowerBound(long[] entries, long key) {
+        int index = Arrays.binarySearch(entries, key << 32);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int[] slotsOf(long[] entries, int from, int to) {
+        int[] slots = new int[Math.max(0, to - from)];
+        for (int i = from; i < to; i++) {
+            slots[i - from] = (int) entries[i];
+        }
+        return slots;
+    }
+}
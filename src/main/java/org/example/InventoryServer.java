@@ -0,0 +1,215 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  InventoryServer
+  @version  1.0.0 
+  @since 18.10.26 - 10.20
+*/
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local HTTP/JSON front end for a {@link ConcurrentInventory}:
+ * <pre>
+ * GET    /items          all items, by id
+ * GET    /items/{id}     one item
+ * POST   /items          add {"name", "sellIn", "quality"}, returns its id
+ * DELETE /items/{id}     remove an item
+ * POST   /update         one rollover
+ * POST   /advance?days=n n rollovers at once
+ * GET    /stats          day and item count
+ * </pre>
+ * Handlers run on virtual threads where the JDK has them (21 and later) and on a
+ * cached thread pool otherwise.
+ */
+public final class InventoryServer implements AutoCloseable {
+    private static final String JSON = "application/json";
+
+    private final ConcurrentInventory inventory;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public InventoryServer(ConcurrentInventory inventory, InetSocketAddress address) throws IOException {
+        this.inventory = inventory;
+        this.server = HttpServer.create(address, 0);
+        this.executor = handlerExecutor();
+        server.setExecutor(executor);
+        server.createContext("/items", this::items);
+        server.createContext("/update", this::update);
+        server.createContext("/advance", this::advance);
+        server.createContext("/stats", this::stats);
+    }
+
+    /**
+     * One virtual thread per task when the JDK supports it, otherwise a cached pool
+     * of platform threads.
+     */
+    public static ExecutorService handlerExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public InventoryServer start() {
+        server.start();
+        return this;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void items(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (path.equals("/items") || path.equals("/items/")) {
+            switch (method) {
+                case "GET":
+                    StringBuilder out = new StringBuilder("[");
+                    for (Map.Entry<Long, Item> entry : new TreeMap<>(inventory.snapshot()).entrySet()) {
+                        if (out.length() > 1) {
+                            out.append(',');
+                        }
+                        ItemJson.appendItem(out, entry.getKey(), entry.getValue());
+                    }
+                    send(exchange, 200, out.append(']'));
+                    break;
+                case "POST":
+                    Item item;
+                    try {
+                        item = ItemJson.parseItem(body(exchange));
+                    } catch (IllegalArgumentException e) {
+                        error(exchange, 400, e.getMessage());
+                        return;
+                    }
+                    long id = inventory.add(item);
+                    send(exchange, 201, new StringBuilder("{\"id\":").append(id).append('}'));
+                    break;
+                default:
+                    error(exchange, 405, "Method not allowed");
+                    break;
+            }
+            return;
+        }
+        long id;
+        try {
+            id = Long.parseLong(path.substring("/items/".length()));
+        } catch (NumberFormatException e) {
+            error(exchange, 404, "No such item");
+            return;
+        }
+        Item item;
+        switch (method) {
+            case "GET":
+                item = inventory.get(id);
+                break;
+            case "DELETE":
+                item = inventory.remove(id);
+                break;
+            default:
+                error(exchange, 405, "Method not allowed");
+                return;
+        }
+        if (item == null) {
+            error(exchange, 404, "No such item");
+            return;
+        }
+        StringBuilder out = new StringBuilder();
+        ItemJson.appendItem(out, id, item);
+        send(exchange, 200, out);
+    }
+
+    private void update(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            error(exchange, 405, "Method not allowed");
+            return;
+        }
+        inventory.updateQuality();
+        sendStats(exchange);
+    }
+
+    private void advance(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            error(exchange, 405, "Method not allowed");
+            return;
+        }
+        int days;
+        try {
+            days = Integer.parseInt(queryParameter(exchange.getRequestURI(), "days"));
+            inventory.advanceDays(days);
+        } catch (IllegalArgumentException e) {
+            error(exchange, 400, "Expected days=<non-negative integer>");
+            return;
+        }
+        sendStats(exchange);
+    }
+
+    private void stats(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            error(exchange, 405, "Method not allowed");
+            return;
+        }
+        sendStats(exchange);
+    }
+
+    private void sendStats(HttpExchange exchange) throws IOException {
+        send(exchange, 200, new StringBuilder("{\"day\":").append(inventory.day())
+                .append(",\"size\":").append(inventory.size()).append('}'));
+    }
+
+    private static String queryParameter(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith(name + "=")) {
+                    return parameter.substring(name.length() + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String body(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder out = new StringBuilder("{\"error\":");
+        ItemJson.appendString(out, message);
+        send(exchange, status, out.append('}'));
+    }
+
+    private static void send(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
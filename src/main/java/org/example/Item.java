@@ -7,14 +7,47 @@ package org.example;
   @since 07.04.24 - 22.00
 */
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 @Data
-@AllArgsConstructor
 public class Item {
     public String name;
     public int sellIn;
     public int quality;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient String categoryName;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient ItemCategory category;
+
+    public Item(String name, int sellIn, int quality) {
+        this.name = name;
+        this.sellIn = sellIn;
+        this.quality = quality;
+    }
+
+    /**
+     * Category of the current name, classified on first use and again only after the
+     * name reference changes.
+     */
+    public ItemCategory category() {
+        String current = name;
+        if (current != categoryName || category == null) {
+            category = ItemCategory.of(current);
+            categoryName = current;
+        }
+        return category;
+    }
 }
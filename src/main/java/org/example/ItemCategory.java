@@ -0,0 +1,51 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemCategory
+  @version  1.0.0 
+  @since 18.10.26 - 10.05
+*/
+
+/**
+ * Update rule an item follows, derived from its name. The ordinal doubles as the
+ * compact one-byte code used by the columnar layouts.
+ */
+public enum ItemCategory {
+    NORMAL,
+    AGED_BRIE,
+    BACKSTAGE_PASS,
+    SULFURAS,
+    CONJURED;
+
+    public static final String AGED_BRIE_NAME = "Aged Brie";
+    public static final String BACKSTAGE_PASS_NAME = "Backstage passes to a TAFKAL80ETC concert";
+    public static final String SULFURAS_NAME = "Sulfuras, Hand of Ragnaros";
+    public static final String CONJURED_PREFIX = "Conjured";
+
+    private static final ItemCategory[] BY_CODE = values();
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static ItemCategory fromCode(byte code) {
+        return BY_CODE[code];
+    }
+
+    public static ItemCategory of(String name) {
+        if (AGED_BRIE_NAME.equals(name)) {
+            return AGED_BRIE;
+        }
+        if (BACKSTAGE_PASS_NAME.equals(name)) {
+            return BACKSTAGE_PASS;
+        }
+        if (SULFURAS_NAME.equals(name)) {
+            return SULFURAS;
+        }
+        if (name != null && name.startsWith(CONJURED_PREFIX)) {
+            return CONJURED;
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemChangeHandler
+  @version  1.0.0 
+  @since 18.10.26 - 13.10
+*/
+
+/**
+ * Receives change events from an {@link ItemChangeRingBuffer} subscription, on the
+ * polling thread. The event is passed as primitives so that nothing is allocated
+ * per event; {@code flags} combines the {@code ItemChangeRingBuffer} flag bits.
+ */
+@FunctionalInterface
+public interface ItemChangeHandler {
+
+    void onChange(int index, int oldSellIn, int newSellIn, int oldQuality, int newQuality, int flags);
+}
@@ -0,0 +1,220 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemChangeRingBuffer
+  @version  1.0.0 
+  @since 18.10.26 - 13.10
+*/
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring of item change events with one producer and any number of
+ * subscribers, each of which sees every event. Events are stored in a preallocated
+ * {@code int[]}, six ints per slot, and are made visible to subscribers in batches.
+ * When the slowest subscriber is a full ring behind, the producer waits for it; with
+ * no subscribers, events are dropped.
+ *
+ * <p>Only one thread may publish. Each {@link Subscription} must be polled by one
+ * thread at a time.
+ */
+public final class ItemChangeRingBuffer {
+    /** sellIn went from zero or above to below zero. */
+    public static final int CROSSED_SELL_BY = 1;
+    /** Quality changed to the cap of 50. */
+    public static final int HIT_CAP = 1 << 1;
+    /** Quality changed to zero. */
+    public static final int HIT_ZERO = 1 << 2;
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final int SLOT_INTS = 6;
+    /** Sequences are spaced 16 longs apart so that they sit on separate cache lines. */
+    private static final int PAD = 16;
+
+    private final int[] slots;
+    private final int mask;
+    private final int capacity;
+    private final int batchSize;
+    private final AtomicLongArray cursor = new AtomicLongArray(2 * PAD);
+    private volatile Subscription[] subscriptions = new Subscription[0];
+
+    // producer state, only touched by the publishing thread
+    private long next;
+    private long visible;
+    private long gate;
+
+    public ItemChangeRingBuffer(int capacity) {
+        this(capacity, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * {@code capacity} must be a power of two; published events become visible to
+     * subscribers every {@code batchSize} events and on {@link #flush()}.
+     */
+    public ItemChangeRingBuffer(int capacity, int batchSize) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        if (batchSize < 1 || batchSize > capacity) {
+            throw new IllegalArgumentException("Batch size must be within 1.." + capacity + ": " + batchSize);
+        }
+        this.slots = new int[capacity * SLOT_INTS];
+        this.mask = capacity - 1;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of events made visible to subscribers so far.
+     */
+    public long published() {
+        return cursor.getAcquire(PAD);
+    }
+
+    /**
+     * A new subscription that sees every event published from now on.
+     */
+    public synchronized Subscription subscribe() {
+        Subscription subscription = new Subscription(cursor.get(PAD));
+        Subscription[] current = subscriptions;
+        Subscription[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = subscription;
+        subscriptions = updated;
+        // a producer that checked the subscribers before they included this one may
+        // already have moved past the first position; start from where it is now
+        subscription.sequence.set(PAD, cursor.get(PAD));
+        return subscription;
+    }
+
+    /**
+     * Records a change of the item at {@code index}, waiting for subscribers if the
+     * ring is full.
+     */
+    public void publish(int index, int oldSellIn, int newSellIn, int oldQuality, int newQuality) {
+        int flags = 0;
+        if (oldSellIn >= 0 && newSellIn < 0) {
+            flags |= CROSSED_SELL_BY;
+        }
+        if (newQuality != oldQuality) {
+            if (newQuality == QualityRules.MAX_QUALITY) {
+                flags |= HIT_CAP;
+            } else if (newQuality == 0) {
+                flags |= HIT_ZERO;
+            }
+        }
+        if (next - gate >= capacity) {
+            awaitCapacity();
+        }
+        int base = (int) (next & mask) * SLOT_INTS;
+        slots[base] = index;
+        slots[base + 1] = oldSellIn;
+        slots[base + 2] = newSellIn;
+        slots[base + 3] = oldQuality;
+        slots[base + 4] = newQuality;
+        slots[base + 5] = flags;
+        next++;
+        if (next - visible >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Makes every published event visible to subscribers.
+     */
+    public void flush() {
+        visible = next;
+        cursor.set(PAD, next);
+    }
+
+    private void awaitCapacity() {
+        // subscribers can only catch up on what they can see
+        flush();
+        int idle = 0;
+        while (true) {
+            gate = slowestSubscriber();
+            if (next - gate < capacity) {
+                return;
+            }
+            if (++idle < 100) {
+                Thread.onSpinWait();
+            } else if (idle < 200) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(10_000);
+            }
+        }
+    }
+
+    private long slowestSubscriber() {
+        long slowest = next;
+        for (Subscription subscription : subscriptions) {
+            slowest = Math.min(slowest, subscription.sequence.getAcquire(PAD));
+        }
+        return slowest;
+    }
+
+    private synchronized void unsubscribe(Subscription subscription) {
+        Subscription[] current = subscriptions;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == subscription) {
+                Subscription[] updated = new Subscription[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                subscriptions = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * One subscriber's position in the ring.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final AtomicLongArray sequence = new AtomicLongArray(2 * PAD);
+
+        private Subscription(long start) {
+            sequence.setRelease(PAD, start);
+        }
+
+        /**
+         * Hands up to {@code maxEvents} visible events to the handler and returns how
+         * many there were; 0 when there is nothing new. Does not block.
+         */
+        public int poll(ItemChangeHandler handler, int maxEvents) {
+            long consumed = sequence.getPlain(PAD);
+            int count = (int) Math.min(cursor.getAcquire(PAD) - consumed, maxEvents);
+            for (int i = 0; i < count; i++) {
+                int base = (int) ((consumed + i) & mask) * SLOT_INTS;
+                handler.onChange(slots[base], slots[base + 1], slots[base + 2],
+                        slots[base + 3], slots[base + 4], slots[base + 5]);
+            }
+            if (count > 0) {
+                sequence.setRelease(PAD, consumed + count);
+            }
+            return count;
+        }
+
+        /**
+         * Number of visible events this subscription has not polled yet.
+         */
+        public long lag() {
+            return cursor.getAcquire(PAD) - sequence.getAcquire(PAD);
+        }
+
+        /**
+         * Stops this subscription from holding back the producer.
+         */
+        @Override
+        public void close() {
+            unsubscribe(this);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemJson
+  @version  1.0.0 
+  @since 18.10.26 - 10.05
+*/
+
+/**
+ * Just enough JSON for {@link InventoryServer}: writing items and reading one flat
+ * item object. Unknown fields are ignored; anything else malformed is an
+ * {@link IllegalArgumentException}.
+ */
+final class ItemJson {
+
+    private ItemJson() {
+    }
+
+    static void appendItem(StringBuilder out, long id, Item item) {
+        out.append("{\"id\":").append(id).append(",\"name\":");
+        appendString(out, item.name);
+        out.append(",\"sellIn\":").append(item.sellIn)
+                .append(",\"quality\":").append(item.quality).append('}');
+    }
+
+    static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                    break;
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Reads {@code {"name": "...", "sellIn": n, "quality": n}}; all three fields are
+     * required.
+     */
+    static Item parseItem(String json) {
+        Parser parser = new Parser(json);
+        String name = null;
+        Integer sellIn = null;
+        Integer quality = null;
+        parser.expect('{');
+        if (!parser.tryConsume('}')) {
+            do {
+                String field = parser.string();
+                parser.expect(':');
+                switch (field) {
+                    case "name":
+                        name = parser.string();
+                        break;
+                    case "sellIn":
+                        sellIn = parser.integer();
+                        break;
+                    case "quality":
+                        quality = parser.integer();
+                        break;
+                    default:
+                        parser.skipValue();
+                        break;
+                }
+            } while (parser.tryConsume(','));
+            parser.expect('}');
+        }
+        parser.end();
+        if (name == null || sellIn == null || quality == null) {
+            throw new IllegalArgumentException("Item needs name, sellIn and quality");
+        }
+        return new Item(name, sellIn, quality);
+    }
+
+    private static final class Parser {
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        void expect(char c) {
+            if (!tryConsume(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        boolean tryConsume(char c) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        void end() {
+            skipWhitespace();
+            if (position != text.length()) {
+                throw error("Unexpected trailing content");
+            }
+        }
+
+        String string() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        value.append(escaped);
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'u':
+                        if (position + 4 > text.length()) {
+                            throw error("Truncated escape");
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("Bad escape");
+                        }
+                        position += 4;
+                        break;
+                    default:
+                        throw error("Bad escape");
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        int integer() {
+            skipWhitespace();
+            int start = position;
+            if (position < text.length() && text.charAt(position) == '-') {
+                position++;
+            }
+            while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            try {
+                return Integer.parseInt(text.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw error("Expected an integer");
+            }
+        }
+
+        void skipValue() {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw error("Expected a value");
+            }
+            char c = text.charAt(position);
+            if (c == '"') {
+                string();
+                return;
+            }
+            if (c == '{' || c == '[') {
+                throw error("Nested values are not supported");
+            }
+            while (position < text.length() && ",}".indexOf(text.charAt(position)) < 0
+                    && !Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at " + position);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemNameIndex
+  @version  1.0.0 
+  @since 18.10.26 - 17.40
+*/
+
+import java.util.Arrays;
+
+/**
+ * Slots of a {@link GlidedRose} inventory by item name. Slots whose names share a key
+ * are linked into a doubly linked chain through {@code next} and {@code previous},
+ * and the map holds the head of each chain, so adding and removing a slot take
+ * constant time however many items share a name. The key combines
+ * {@link String#hashCode()} with the length; names that share one are told apart by
+ * comparing them while walking the chain.
+ */
+final class ItemNameIndex {
+    private static final int NONE = -1;
+
+    private final LongIntHashMap heads;
+    private int[] next;
+    private int[] previous;
+
+    ItemNameIndex(Item[] items) {
+        heads = new LongIntHashMap(items.length);
+        next = new int[items.length];
+        previous = new int[items.length];
+        for (int slot = items.length - 1; slot >= 0; slot--) {
+            link(slot, items[slot].name);
+        }
+    }
+
+    int first(Item[] items, String name) {
+        return matching(items, name, heads.get(key(name), NONE));
+    }
+
+    int next(Item[] items, String name, int slot) {
+        return matching(items, name, next[slot]);
+    }
+
+    void add(int slot, String name) {
+        if (slot >= next.length) {
+            int capacity = Math.max(slot + 1, next.length + (next.length >> 1));
+            next = Arrays.copyOf(next, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+        }
+        link(slot, name);
+    }
+
+    void remove(int slot, String name) {
+        int before = previous[slot];
+        int after = next[slot];
+        if (before == NONE) {
+            long key = key(name);
+            if (after == NONE) {
+                heads.remove(key);
+            } else {
+                heads.put(key, after);
+            }
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            previous[after] = before;
+        }
+    }
+
+    /**
+     * Puts slot {@code to} in the place of slot {@code from} in its chain, for an item
+     * with this name that moved between them.
+     */
+    void move(int from, int to, String name) {
+        int before = previous[from];
+        int after = next[from];
+        next[to] = after;
+        previous[to] = before;
+        if (before == NONE) {
+            heads.put(key(name), to);
+        } else {
+            next[before] = to;
+        }
+        if (after != NONE) {
+            previous[after] = to;
+        }
+    }
+
+    private void link(int slot, String name) {
+        long key = key(name);
+        int head = heads.get(key, NONE);
+        next[slot] = head;
+        previous[slot] = NONE;
+        if (head != NONE) {
+            previous[head] = slot;
+        }
+        heads.put(key, slot);
+    }
+
+    private int matching(Item[] items, String name, int slot) {
+        while (slot != NONE && !sameName(items[slot], name)) {
+            slot = next[slot];
+        }
+        return slot;
+    }
+
+    private static boolean sameName(Item item, String name) {
+        return name == null ? item.name == null : name.equals(item.name);
+    }
+
+    private static long key(String name) {
+        if (name == null) {
+            return Long.MIN_VALUE;
+        }
+        return ((long) name.length() << 32) | (name.hashCode() & 0xFFFFFFFFL);
+    }
+}
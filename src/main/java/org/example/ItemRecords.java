@@ -0,0 +1,71 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemRecords
+  @version  1.0.0 
+  @since 18.10.26 - 14.40
+*/
+
+/**
+ * Text records for items: the {@code name, sellIn, quality} lines of the {@link Main}
+ * report, and the {@code Item(name=..., sellIn=..., quality=...)} form of
+ * {@link Item#toString()}. Names may contain commas, so the numbers are taken from the
+ * end of the line.
+ */
+public final class ItemRecords {
+    public static final String HEADER = "name, sellIn, quality";
+
+    private static final String TO_STRING_PREFIX = "Item(name=";
+    private static final String SELL_IN_KEY = ", sellIn=";
+    private static final String QUALITY_KEY = ", quality=";
+
+    private ItemRecords() {
+    }
+
+    /**
+     * Parses either record form into {@code target}, reusing it instead of allocating.
+     */
+    public static Item parseInto(String line, Item target) {
+        if (line.startsWith(TO_STRING_PREFIX) && line.endsWith(")")) {
+            int sellInAt = line.lastIndexOf(SELL_IN_KEY);
+            int qualityAt = line.lastIndexOf(QUALITY_KEY);
+            if (sellInAt < TO_STRING_PREFIX.length() || qualityAt < sellInAt) {
+                throw malformed(line);
+            }
+            target.name = line.substring(TO_STRING_PREFIX.length(), sellInAt);
+            target.sellIn = parseInt(line, sellInAt + SELL_IN_KEY.length(), qualityAt);
+            target.quality = parseInt(line, qualityAt + QUALITY_KEY.length(), line.length() - 1);
+            return target;
+        }
+        int qualityComma = line.lastIndexOf(',');
+        int sellInComma = qualityComma > 0 ? line.lastIndexOf(',', qualityComma - 1) : -1;
+        if (sellInComma < 0) {
+            throw malformed(line);
+        }
+        target.name = line.substring(0, sellInComma).trim();
+        target.sellIn = parseInt(line, sellInComma + 1, qualityComma);
+        target.quality = parseInt(line, qualityComma + 1, line.length());
+        return target;
+    }
+
+    public static Item parse(String line) {
+        return parseInto(line, new Item(null, 0, 0));
+    }
+
+    public static String format(Item item) {
+        return item.name + ", " + item.sellIn + ", " + item.quality;
+    }
+
+    private static int parseInt(String line, int from, int to) {
+        try {
+            return Integer.parseInt(line.substring(from, to).trim());
+        } catch (NumberFormatException e) {
+            throw malformed(line);
+        }
+    }
+
+    private static IllegalArgumentException malformed(String line) {
+        return new IllegalArgumentException("Malformed item record: " + line);
+    }
+}
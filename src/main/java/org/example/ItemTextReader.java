@@ -0,0 +1,236 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemTextReader
+  @version  1.0.0 
+  @since 18.10.26 - 11.50
+*/
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 item lines from a channel into reused {@link Item}s, accepting the same
+ * forms as {@link ItemRecords#parseInto}. {@code name, sellIn, quality} lines are
+ * parsed from the bytes directly; names are looked up in a small cache of decoded
+ * strings, so a repeated name costs no allocation. Blank lines and the
+ * {@link ItemRecords#HEADER} line are skipped.
+ */
+public final class ItemTextReader implements Closeable {
+    private static final int NAME_CACHE_SIZE = 1 << 12;
+    private static final byte[] HEADER = ItemRecords.HEADER.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TO_STRING_PREFIX = "Item(name=".getBytes(StandardCharsets.UTF_8);
+
+    private final ReadableByteChannel channel;
+    private byte[] buffer = new byte[ItemTextWriter.BUFFER_SIZE];
+    private final byte[][] cachedBytes = new byte[NAME_CACHE_SIZE][];
+    private final String[] cachedNames = new String[NAME_CACHE_SIZE];
+    private int start;
+    private int end;
+    private boolean eof;
+    private long lineNumber;
+
+    public ItemTextReader(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public static ItemTextReader open(Path path) throws IOException {
+        return new ItemTextReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Reads the next item into {@code target}; false once the input is exhausted.
+     */
+    public boolean readInto(Item target) throws IOException {
+        while (true) {
+            int lineEnd = nextLineEnd();
+            if (lineEnd < 0) {
+                return false;
+            }
+            int from = start;
+            int to = lineEnd;
+            start = lineEnd < end ? lineEnd + 1 : end;
+            lineNumber++;
+            if (to > from && buffer[to - 1] == '\r') {
+                to--;
+            }
+            if (isBlank(from, to) || Arrays.equals(buffer, from, to, HEADER, 0, HEADER.length)) {
+                continue;
+            }
+            parse(from, to, target);
+            return true;
+        }
+    }
+
+    /**
+     * Reads into {@code targets[from]} onwards, stopping at {@code to} or the end of
+     * the input, and returns the number of items read.
+     */
+    public int read(Item[] targets, int from, int to) throws IOException {
+        int read = 0;
+        while (from + read < to && readInto(targets[from + read])) {
+            read++;
+        }
+        return read;
+    }
+
+    /**
+     * Number of lines consumed so far, including skipped ones.
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Index of the newline ending the next line, or {@code end} for a last line
+     * without one; -1 when there are no more lines.
+     */
+    private int nextLineEnd() throws IOException {
+        int scanned = start;
+        while (true) {
+            for (int i = scanned; i < end; i++) {
+                if (buffer[i] == '\n') {
+                    return i;
+                }
+            }
+            if (eof) {
+                return start < end ? end : -1;
+            }
+            scanned = end - start;
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = channel.read(ByteBuffer.wrap(buffer, end, buffer.length - end));
+        if (read < 0) {
+            eof = true;
+        } else {
+            end += read;
+        }
+    }
+
+    private void parse(int from, int to, Item target) {
+        if (Arrays.equals(buffer, from, Math.min(to, from + TO_STRING_PREFIX.length),
+                TO_STRING_PREFIX, 0, TO_STRING_PREFIX.length)) {
+            try {
+                ItemRecords.parseInto(new String(buffer, from, to - from, StandardCharsets.UTF_8), target);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            return;
+        }
+        int qualityComma = lastComma(from, to);
+        int sellInComma = qualityComma < 0 ? -1 : lastComma(from, qualityComma);
+        if (sellInComma < 0) {
+            throw malformed(from, to);
+        }
+        int sellIn = parseInt(sellInComma + 1, qualityComma, from, to);
+        int quality = parseInt(qualityComma + 1, to, from, to);
+        int nameFrom = from;
+        int nameTo = sellInComma;
+        while (nameFrom < nameTo && isWhitespace(buffer[nameFrom])) {
+            nameFrom++;
+        }
+        while (nameTo > nameFrom && isWhitespace(buffer[nameTo - 1])) {
+            nameTo--;
+        }
+        target.name = name(nameFrom, nameTo);
+        target.sellIn = sellIn;
+        target.quality = quality;
+    }
+
+    private String name(int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int slot = hash * 0x9E3779B9 >>> 20;
+        byte[] cached = cachedBytes[slot];
+        if (cached != null && Arrays.equals(buffer, from, to, cached, 0, cached.length)) {
+            return cachedNames[slot];
+        }
+        String name = new String(buffer, from, to - from, StandardCharsets.UTF_8);
+        cachedBytes[slot] = Arrays.copyOfRange(buffer, from, to);
+        cachedNames[slot] = name;
+        return name;
+    }
+
+    private int parseInt(int from, int to, int lineFrom, int lineTo) {
+        while (from < to && isWhitespace(buffer[from])) {
+            from++;
+        }
+        while (to > from && isWhitespace(buffer[to - 1])) {
+            to--;
+        }
+        boolean negative = from < to && buffer[from] == '-';
+        int i = negative || (from < to && buffer[from] == '+') ? from + 1 : from;
+        if (i == to) {
+            throw malformed(lineFrom, lineTo);
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw malformed(lineFrom, lineTo);
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw malformed(lineFrom, lineTo);
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw malformed(lineFrom, lineTo);
+        }
+        return (int) value;
+    }
+
+    private int lastComma(int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (buffer[i] == ',') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isWhitespace(buffer[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    private IllegalArgumentException malformed(int from, int to) {
+        return new IllegalArgumentException("Line " + lineNumber + ": Malformed item record: "
+                + new String(buffer, from, to - from, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,160 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemTextWriter
+  @version  1.0.0 
+  @since 18.10.26 - 11.30
+*/
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes items as {@code name, sellIn, quality} lines, the same text as
+ * {@link ItemRecords#format(Item)}, straight into one reused byte buffer. Encoded
+ * names are kept in a small cache, since an inventory repeats a few names many
+ * times, and numbers are formatted without creating strings.
+ */
+public final class ItemTextWriter implements Closeable {
+    static final int BUFFER_SIZE = 1 << 18;
+    /** 2^12 entries, indexed by the top 12 bits of the spread hash. */
+    private static final int NAME_CACHE_SIZE = 1 << 12;
+    /** Two separators, two ints of at most 11 characters and the newline. */
+    private static final int MAX_NUMBERS_LENGTH = 2 + 11 + 2 + 11 + 1;
+    private static final byte[] HEADER = (ItemRecords.HEADER + "\n").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL_NAME = "null".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MIN_INT = Integer.toString(Integer.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private final WritableByteChannel channel;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteBuffer view = ByteBuffer.wrap(buffer);
+    private final String[] cachedNames = new String[NAME_CACHE_SIZE];
+    private final byte[][] cachedBytes = new byte[NAME_CACHE_SIZE][];
+    private int position;
+
+    public ItemTextWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public static ItemTextWriter open(Path path) throws IOException {
+        return new ItemTextWriter(FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    public void writeHeader() throws IOException {
+        writeBytes(HEADER);
+    }
+
+    public void write(Item item) throws IOException {
+        writeBytes(encodedName(item.name));
+        writeLine(item.sellIn, item.quality);
+    }
+
+    /**
+     * Writes items {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public void write(Item[] items, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            write(items[i]);
+        }
+    }
+
+    /**
+     * Hands everything buffered so far to the channel.
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeLine(int sellIn, int quality) throws IOException {
+        if (BUFFER_SIZE - position < MAX_NUMBERS_LENGTH) {
+            flushBuffer();
+        }
+        buffer[position++] = ',';
+        buffer[position++] = ' ';
+        writeInt(sellIn);
+        buffer[position++] = ',';
+        buffer[position++] = ' ';
+        writeInt(quality);
+        buffer[position++] = '\n';
+    }
+
+    private void writeInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            System.arraycopy(MIN_INT, 0, buffer, position, MIN_INT.length);
+            position += MIN_INT.length;
+            return;
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int end = position + digits(value);
+        int at = end;
+        do {
+            buffer[--at] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position = end;
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        for (int limit = 10; digits < 10 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private byte[] encodedName(String name) {
+        if (name == null) {
+            return NULL_NAME;
+        }
+        int slot = name.hashCode() * 0x9E3779B9 >>> 20;
+        String cached = cachedNames[slot];
+        if (cached == name || name.equals(cached)) {
+            return cachedBytes[slot];
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        cachedNames[slot] = name;
+        cachedBytes[slot] = bytes;
+        return bytes;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (position == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            int length = Math.min(bytes.length - offset, BUFFER_SIZE - position);
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+            offset += length;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        view.clear().limit(position);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ItemView
+  @version  1.0.0 
+  @since 18.10.26 - 18.30
+*/
+
+/**
+ * Reusable cursor over the items of a {@link GlidedRose}. Moving it to another slot
+ * allocates nothing, so one view can serve any number of reads and writes.
+ */
+public final class ItemView {
+    private final GlidedRose inventory;
+    private int index = -1;
+
+    ItemView(GlidedRose inventory) {
+        this.inventory = inventory;
+    }
+
+    public ItemView moveTo(int index) {
+        this.index = index;
+        return this;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public String name() {
+        return inventory.items[index].name;
+    }
+
+    public ItemCategory category() {
+        return inventory.items[index].category();
+    }
+
+    public int sellIn() {
+        return inventory.items[index].sellIn;
+    }
+
+    public int quality() {
+        return inventory.items[index].quality;
+    }
+
+    public ItemView sellIn(int sellIn) {
+        inventory.items[index].sellIn = sellIn;
+        return this;
+    }
+
+    public ItemView quality(int quality) {
+        inventory.items[index].quality = quality;
+        return this;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  LatencyHistogram
+  @version  1.0.0 
+  @since 18.10.26 - 20.15
+*/
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in power-of-two nanosecond buckets. Percentiles are reported
+ * as the upper bound of the bucket they fall into, so they are accurate to within a
+ * factor of two.
+ */
+public final class LatencyHistogram {
+    private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(value) - (value == 0 ? 0 : 1)].increment();
+        max.accumulate(value);
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be within 0..100: " + percentile);
+        }
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max.get(), i == Long.SIZE - 1 ? Long.MAX_VALUE : (2L << i) - 1);
+            }
+        }
+        return max.get();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  LazyInventory
+  @version  1.0.0 
+  @since 18.10.26 - 15.30
+*/
+
+/**
+ * Inventory whose daily update only advances a day counter. Each item holds the
+ * state it had on its slot's base day; reading it computes the current state with the
+ * closed-form rules, in constant time, writes it to the {@link Item} and makes it
+ * the new base, so further reads on the same day cost nothing.
+ *
+ * <p>The fields of an {@link Item} are stale until the item is read through this
+ * inventory. Call {@link #refresh(int)} after changing an item directly.
+ */
+public final class LazyInventory {
+    private final Item[] items;
+    private final int[] baseDay;
+    private int day;
+
+    public LazyInventory(Item[] items) {
+        this.items = items;
+        this.baseDay = new int[items.length];
+    }
+
+    public void updateQuality() {
+        day++;
+    }
+
+    public void advanceDays(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        day += days;
+    }
+
+    public int day() {
+        return day;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public int sellIn(int slot) {
+        return item(slot).sellIn;
+    }
+
+    public int quality(int slot) {
+        return item(slot).quality;
+    }
+
+    /**
+     * The item with its fields brought up to date.
+     */
+    public Item item(int slot) {
+        Item item = items[slot];
+        int days = day - baseDay[slot];
+        if (days != 0) {
+            ItemCategory category = item.category();
+            int sellIn = item.sellIn;
+            item.quality = QualityRules.qualityAfter(category, sellIn, item.quality, days);
+            item.sellIn = QualityRules.sellInAfter(category, sellIn, days);
+            baseDay[slot] = day;
+        }
+        return item;
+    }
+
+    /**
+     * The backing array with every item brought up to date.
+     */
+    public Item[] items() {
+        for (int slot = 0; slot < items.length; slot++) {
+            item(slot);
+        }
+        return items;
+    }
+
+    /**
+     * Re-evaluates a slot after its item was changed or replaced directly. The item's
+     * fields are taken as its state for the current day.
+     */
+    public void refresh(int slot) {
+        baseDay[slot] = day;
+    }
+}
@@ -0,0 +1,172 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  LongIntHashMap
+  @version  1.0.0 
+  @since 18.10.26 - 17.20
+*/
+
+import java.util.Arrays;
+
+/**
+ * Map from {@code long} to {@code int} without boxing: keys and values sit in two
+ * parallel arrays, probed linearly from a Fibonacci hash of the key. Removal shifts
+ * the following entries of the run back instead of leaving tombstones, so lookups
+ * never slow down after many removals. Key 0 marks an empty slot and is kept aside.
+ * Not thread-safe.
+ */
+public final class LongIntHashMap {
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private int[] values;
+    private int shift;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public LongIntHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * A map that holds {@code expectedSize} entries without resizing.
+     */
+    public LongIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return keys[find(key)] == key;
+    }
+
+    /**
+     * The value of {@code key}, or {@code missing} if there is none.
+     */
+    public int get(long key, int missing) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : missing;
+        }
+        int slot = find(key);
+        return keys[slot] == key ? values[slot] : missing;
+    }
+
+    public void put(long key, int value) {
+        if (key == 0) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int slot = find(key);
+        if (keys[slot] == key) {
+            values[slot] = value;
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > maxSize()) {
+            allocateAndCopy(keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes {@code key}, returning whether it was present.
+     */
+    public boolean remove(long key) {
+        if (key == 0) {
+            boolean had = hasZeroKey;
+            hasZeroKey = false;
+            return had;
+        }
+        int slot = find(key);
+        if (keys[slot] != key) {
+            return false;
+        }
+        int mask = keys.length - 1;
+        // move later entries of the run into the gap unless that would put them
+        // before their home slot
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = home(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    /**
+     * Slot holding {@code key}, or the empty slot where it would go.
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = home(key);
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int home(long key) {
+        return (int) ((key * GOLDEN) >>> shift);
+    }
+
+    private int maxSize() {
+        return keys.length - (keys.length >>> 2) - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long capacity = MIN_CAPACITY;
+        while (capacity - (capacity >>> 2) - 1 < expectedSize) {
+            capacity <<= 1;
+        }
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        }
+        return (int) capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1L);
+    }
+
+    private void allocateAndCopy(int capacity) {
+        if (capacity > 1 << 30 || capacity <= 0) {
+            throw new IllegalStateException("Map is full");
+        }
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -9,10 +9,13 @@ package org.example;
   @since 07.04.24 - 21.54
 */
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
 
         Item[] items = new Item[] {
                 new Item("+5 Dexterity Vest", 10, 20), //
@@ -26,6 +29,13 @@ public class Main {
                 // this conjured item does not work properly yet
                 new Item("Conjured Mana Cake", 3, 6) };
 
+        if (args.length > 0 && args[0].equals("serve")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+            InventoryServer server = new InventoryServer(ConcurrentInventory.of(items), new InetSocketAddress(port)).start();
+            System.out.println("Serving inventory on http://localhost:" + server.port() + "/items");
+            return;
+        }
+
         GlidedRose app = new GlidedRose(items);
         int days = 2;
         if (args.length > 0) {
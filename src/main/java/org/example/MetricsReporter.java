@@ -0,0 +1,18 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  MetricsReporter
+  @version  1.0.0 
+  @since 18.10.26 - 20.10
+*/
+
+/**
+ * Receives the statistics of every instrumented update run, on the thread that did
+ * the run.
+ */
+@FunctionalInterface
+public interface MetricsReporter {
+
+    void report(UpdateRunStats run);
+}
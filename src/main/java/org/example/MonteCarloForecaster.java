@@ -0,0 +1,278 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  MonteCarloForecaster
+  @version  1.0.0 
+  @since 18.10.26 - 14.35
+*/
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs many independent replicas of a season in parallel and aggregates the quality
+ * distribution per category and day into a {@link QualityForecast}.
+ *
+ * <p>Replicas share the starting state as read-only arrays; each leaf task allocates
+ * one set of primitive buffers and reuses it for all of its replicas. An item
+ * whose quality can no longer change ({@link QualityRules#isSettled}) leaves the
+ * replica's active list, and sales and restocks are drawn with geometric skips, so
+ * a day costs time in proportion to the items that change rather than to the
+ * inventory size. Results depend only on the seed, not on the pool.
+ */
+public final class MonteCarloForecaster {
+    private static final int CATEGORIES = ItemCategory.values().length;
+    private static final ItemCategory[] CATEGORY_VALUES = ItemCategory.values();
+
+    private final byte[] categories;
+    private final int[] startSellIn;
+    private final int[] startQuality;
+    private final ForecastScenario scenario;
+    private final ForkJoinPool pool;
+
+    public MonteCarloForecaster(Item[] items, ForecastScenario scenario) {
+        this(items, scenario, ForkJoinPool.commonPool());
+    }
+
+    public MonteCarloForecaster(Item[] items, ForecastScenario scenario, ForkJoinPool pool) {
+        int size = items.length;
+        this.categories = new byte[size];
+        this.startSellIn = new int[size];
+        this.startQuality = new int[size];
+        for (int i = 0; i < size; i++) {
+            categories[i] = items[i].category().code();
+            startSellIn[i] = items[i].sellIn;
+            startQuality[i] = items[i].quality;
+        }
+        this.scenario = scenario;
+        this.pool = pool;
+    }
+
+    public QualityForecast forecast(int replicaCount, int days, long seed) {
+        if (replicaCount < 1) {
+            throw new IllegalArgumentException("Replica count must be positive: " + replicaCount);
+        }
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] seeds = new long[replicaCount];
+        for (int i = 0; i < replicaCount; i++) {
+            seeds[i] = root.nextLong();
+        }
+        int leafSize = Math.max(1, replicaCount / (pool.getParallelism() * 4));
+        Totals totals = pool.invoke(new ReplicaTask(seeds, 0, replicaCount, days, leafSize));
+        return new QualityForecast(replicaCount, days, totals.counts, totals.qualitySums);
+    }
+
+    @SuppressWarnings("serial")
+    private final class ReplicaTask extends RecursiveTask<Totals> {
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+        private final int days;
+        private final int leafSize;
+
+        ReplicaTask(long[] seeds, int from, int to, int days, int leafSize) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+            this.days = days;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= leafSize) {
+                Totals totals = new Totals(days);
+                Replica replica = new Replica();
+                for (int i = from; i < to; i++) {
+                    replica.run(seeds[i], days, totals);
+                }
+                return totals;
+            }
+            int middle = (from + to) >>> 1;
+            ReplicaTask right = new ReplicaTask(seeds, middle, to, days, leafSize);
+            right.fork();
+            Totals totals = new ReplicaTask(seeds, from, middle, days, leafSize).compute();
+            totals.add(right.join());
+            return totals;
+        }
+    }
+
+    private static final class Totals {
+        final long[] counts;
+        final long[] qualitySums;
+
+        Totals(int days) {
+            counts = new long[(days + 1) * CATEGORIES * QualityForecast.BUCKETS];
+            qualitySums = new long[(days + 1) * CATEGORIES];
+        }
+
+        void add(Totals other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            for (int i = 0; i < qualitySums.length; i++) {
+                qualitySums[i] += other.qualitySums[i];
+            }
+        }
+    }
+
+    /**
+     * State of one replica, reused for every replica of a leaf task. An item
+     * is either in stock, and then active or settled, or sold; {@code activeAt} and
+     * {@code soldAt} hold its position in the respective list or -1.
+     */
+    private final class Replica {
+        int[] sellIn = new int[0];
+        int[] quality = new int[0];
+        int[] active = new int[0];
+        int[] activeAt = new int[0];
+        int[] sold = new int[0];
+        int[] soldAt = new int[0];
+        int activeCount;
+        int soldCount;
+        final int[] histogram = new int[CATEGORIES * QualityForecast.BUCKETS];
+        final long[] qualitySums = new long[CATEGORIES];
+
+        void run(long seed, int days, Totals totals) {
+            reset();
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < categories.length; i++) {
+                restock(i);
+            }
+            record(0, totals);
+            for (int day = 1; day <= days; day++) {
+                age();
+                if (scenario.saleRate() > 0) {
+                    sell(random);
+                }
+                if (scenario.restockRate() > 0 && soldCount > 0) {
+                    restock(random);
+                }
+                record(day, totals);
+            }
+        }
+
+        private void reset() {
+            int size = categories.length;
+            if (sellIn.length != size) {
+                sellIn = new int[size];
+                quality = new int[size];
+                active = new int[size];
+                activeAt = new int[size];
+                sold = new int[size];
+                soldAt = new int[size];
+            }
+            activeCount = 0;
+            soldCount = 0;
+            Arrays.fill(histogram, 0);
+            Arrays.fill(qualitySums, 0);
+        }
+
+        private void age() {
+            for (int k = 0; k < activeCount; ) {
+                int i = active[k];
+                ItemCategory category = CATEGORY_VALUES[categories[i]];
+                int oldSellIn = sellIn[i];
+                int oldQuality = quality[i];
+                int newQuality = QualityRules.nextQuality(category, oldSellIn, oldQuality);
+                int newSellIn = QualityRules.nextSellIn(category, oldSellIn);
+                sellIn[i] = newSellIn;
+                if (newQuality != oldQuality) {
+                    count(category.ordinal(), oldQuality, -1);
+                    count(category.ordinal(), newQuality, 1);
+                    quality[i] = newQuality;
+                }
+                if (QualityRules.isSettled(category, newSellIn, newQuality)) {
+                    removeActive(k);
+                } else {
+                    k++;
+                }
+            }
+        }
+
+        private void sell(SplittableRandom random) {
+            double rate = scenario.saleRate();
+            int size = categories.length;
+            for (long i = nextGap(random, rate, size); i < size; i += 1 + nextGap(random, rate, size)) {
+                int item = (int) i;
+                if (soldAt[item] < 0) {
+                    count(categories[item], quality[item], -1);
+                    if (activeAt[item] >= 0) {
+                        removeActive(activeAt[item]);
+                    }
+                    soldAt[item] = soldCount;
+                    sold[soldCount++] = item;
+                }
+            }
+        }
+
+        private void restock(SplittableRandom random) {
+            // backwards, so that swapping the last sold item into a freed position
+            // only moves items that have been decided on already
+            double rate = scenario.restockRate();
+            for (long k = soldCount - 1L - nextGap(random, rate, soldCount); k >= 0;
+                 k -= 1 + nextGap(random, rate, soldCount)) {
+                int item = sold[(int) k];
+                int last = sold[--soldCount];
+                sold[(int) k] = last;
+                soldAt[last] = (int) k;
+                restock(item);
+            }
+        }
+
+        private void restock(int item) {
+            soldAt[item] = -1;
+            sellIn[item] = startSellIn[item];
+            quality[item] = startQuality[item];
+            count(categories[item], quality[item], 1);
+            if (QualityRules.isSettled(CATEGORY_VALUES[categories[item]], sellIn[item], quality[item])) {
+                activeAt[item] = -1;
+            } else {
+                activeAt[item] = activeCount;
+                active[activeCount++] = item;
+            }
+        }
+
+        private void removeActive(int position) {
+            int item = active[position];
+            int last = active[--activeCount];
+            active[position] = last;
+            activeAt[last] = position;
+            activeAt[item] = -1;
+        }
+
+        private void count(int category, int quality, int delta) {
+            histogram[category * QualityForecast.BUCKETS + QualityForecast.bucket(quality)] += delta;
+            qualitySums[category] += (long) delta * quality;
+        }
+
+        private void record(int day, Totals totals) {
+            for (int category = 0; category < CATEGORIES; category++) {
+                int target = QualityForecast.index(day, category);
+                int source = category * QualityForecast.BUCKETS;
+                for (int bucket = 0; bucket < QualityForecast.BUCKETS; bucket++) {
+                    totals.counts[target * QualityForecast.BUCKETS + bucket] += histogram[source + bucket];
+                }
+                totals.qualitySums[target] += qualitySums[category];
+            }
+        }
+    }
+
+    /**
+     * Number of candidates skipped before the next one picked with probability
+     * {@code rate}, capped at {@code limit}.
+     */
+    private static long nextGap(SplittableRandom random, double rate, int limit) {
+        if (rate >= 1) {
+            return 0;
+        }
+        double gap = Math.floor(Math.log(1 - random.nextDouble()) / Math.log1p(-rate));
+        return (long) Math.min(gap, limit);
+    }
+}
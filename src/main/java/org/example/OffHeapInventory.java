@@ -0,0 +1,202 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  OffHeapInventory
+  @version  1.0.0 
+  @since 18.10.26 - 16.25
+*/
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Inventory kept outside the Java heap. Items are stored column by column in direct
+ * buffers of {@code pageCapacity} items each (sellIn, quality and name id as ints,
+ * category as a byte), and names live in an off-heap dictionary, so the heap holds
+ * a handful of buffer objects however many items there are.
+ *
+ * <p>The memory is released by {@link #close()}; any use after that throws
+ * {@link IllegalStateException}. Not thread-safe.
+ */
+public final class OffHeapInventory implements AutoCloseable {
+    public static final int DEFAULT_PAGE_CAPACITY = 1 << 20;
+
+    private final int pageCapacity;
+    private final int qualityOffset;
+    private final int nameOffset;
+    private final int categoryOffset;
+    private final OffHeapNameDictionary names = new OffHeapNameDictionary();
+    private ByteBuffer[] pages = new ByteBuffer[4];
+    private long size;
+    private boolean closed;
+
+    public OffHeapInventory() {
+        this(DEFAULT_PAGE_CAPACITY);
+    }
+
+    public OffHeapInventory(int pageCapacity) {
+        if (pageCapacity < 1 || pageCapacity > (Integer.MAX_VALUE - 8) / 13) {
+            throw new IllegalArgumentException("Page capacity out of range: " + pageCapacity);
+        }
+        this.pageCapacity = pageCapacity;
+        this.qualityOffset = pageCapacity * Integer.BYTES;
+        this.nameOffset = 2 * qualityOffset;
+        this.categoryOffset = 3 * qualityOffset;
+    }
+
+    public static OffHeapInventory of(Item[] items) {
+        OffHeapInventory inventory = new OffHeapInventory();
+        for (Item item : items) {
+            inventory.add(item);
+        }
+        return inventory;
+    }
+
+    /**
+     * Appends the item's current state and returns its slot.
+     */
+    public long add(Item item) {
+        checkOpen();
+        long slot = size;
+        int page = (int) (slot / pageCapacity);
+        if (page == pages.length) {
+            pages = Arrays.copyOf(pages, pages.length * 2);
+        }
+        if (pages[page] == null) {
+            pages[page] = DirectBuffers.allocate(categoryOffset + pageCapacity);
+        }
+        ByteBuffer buffer = pages[page];
+        int index = (int) (slot % pageCapacity);
+        buffer.putInt(index * Integer.BYTES, item.sellIn);
+        buffer.putInt(qualityOffset + index * Integer.BYTES, item.quality);
+        buffer.putInt(nameOffset + index * Integer.BYTES, names.intern(item.name));
+        buffer.put(categoryOffset + index, item.category().code());
+        size++;
+        return slot;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Number of distinct names.
+     */
+    public int nameCount() {
+        checkOpen();
+        return names.size();
+    }
+
+    public String name(long slot) {
+        return names.name(page(slot).getInt(nameOffset + index(slot) * Integer.BYTES));
+    }
+
+    public ItemCategory category(long slot) {
+        return ItemCategory.fromCode(page(slot).get(categoryOffset + index(slot)));
+    }
+
+    public int sellIn(long slot) {
+        return page(slot).getInt(index(slot) * Integer.BYTES);
+    }
+
+    public int quality(long slot) {
+        return page(slot).getInt(qualityOffset + index(slot) * Integer.BYTES);
+    }
+
+    public void setSellIn(long slot, int sellIn) {
+        page(slot).putInt(index(slot) * Integer.BYTES, sellIn);
+    }
+
+    public void setQuality(long slot, int quality) {
+        page(slot).putInt(qualityOffset + index(slot) * Integer.BYTES, quality);
+    }
+
+    /**
+     * A new heap item with the slot's current state.
+     */
+    public Item item(long slot) {
+        return new Item(name(slot), sellIn(slot), quality(slot));
+    }
+
+    public void updateQuality() {
+        checkOpen();
+        forEachPage(1);
+    }
+
+    public void advanceDays(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        checkOpen();
+        if (days > 0) {
+            forEachPage(days);
+        }
+    }
+
+    /**
+     * Releases the off-heap memory. Calling it again has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuffer page : pages) {
+            DirectBuffers.free(page);
+        }
+        pages = null;
+        names.free();
+    }
+
+    private void forEachPage(int days) {
+        long remaining = size;
+        for (int page = 0; remaining > 0; page++) {
+            int count = (int) Math.min(remaining, pageCapacity);
+            updatePage(pages[page], count, days);
+            remaining -= count;
+        }
+    }
+
+    private void updatePage(ByteBuffer page, int count, int days) {
+        for (int i = 0; i < count; i++) {
+            byte code = page.get(categoryOffset + i);
+            ItemCategory category = ItemCategory.fromCode(code);
+            if (category == ItemCategory.SULFURAS) {
+                continue;
+            }
+            int sellInAt = i * Integer.BYTES;
+            int qualityAt = qualityOffset + sellInAt;
+            int sellIn = page.getInt(sellInAt);
+            int quality = page.getInt(qualityAt);
+            int next = days == 1
+                    ? QualityRules.nextQuality(category, sellIn, quality)
+                    : QualityRules.qualityAfter(category, sellIn, quality, days);
+            if (next != quality) {
+                page.putInt(qualityAt, next);
+            }
+            page.putInt(sellInAt, days == 1
+                    ? QualityRules.nextSellIn(category, sellIn)
+                    : QualityRules.sellInAfter(category, sellIn, days));
+        }
+    }
+
+    private ByteBuffer page(long slot) {
+        checkOpen();
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of 0.." + size);
+        }
+        return pages[(int) (slot / pageCapacity)];
+    }
+
+    private int index(long slot) {
+        return (int) (slot % pageCapacity);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Inventory is closed");
+        }
+    }
+}
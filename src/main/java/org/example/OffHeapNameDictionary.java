@@ -0,0 +1,126 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  OffHeapNameDictionary
+  @version  1.0.0 
+  @since 18.10.26 - 16.10
+*/
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Distinct item names as UTF-8 bytes in one direct buffer, numbered in order of
+ * first appearance. The offsets and the hash index are primitive arrays, which the
+ * garbage collector does not need to scan.
+ */
+final class OffHeapNameDictionary {
+    private static final int NULL_ID = -1;
+
+    private ByteBuffer bytes = DirectBuffers.allocate(1 << 12);
+    private int used;
+    private int[] offsets = new int[16];
+    private int[] lengths = new int[16];
+    private int[] hashes = new int[16];
+    private int count;
+    /** Open-addressing table of id + 1, 0 marking an empty slot. */
+    private int[] table = new int[32];
+
+    int intern(String name) {
+        if (name == null) {
+            return NULL_ID;
+        }
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(encoded);
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                int id = append(encoded, hash);
+                table[slot] = id + 1;
+                if (count * 2 > table.length) {
+                    rehash();
+                }
+                return id;
+            }
+            int id = entry - 1;
+            if (hashes[id] == hash && matches(id, encoded)) {
+                return id;
+            }
+        }
+    }
+
+    String name(int id) {
+        if (id == NULL_ID) {
+            return null;
+        }
+        byte[] encoded = new byte[lengths[id]];
+        bytes.get(offsets[id], encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    int size() {
+        return count;
+    }
+
+    void free() {
+        DirectBuffers.free(bytes);
+        bytes = null;
+    }
+
+    private int append(byte[] encoded, int hash) {
+        if (used + encoded.length > bytes.capacity()) {
+            long capacity = Math.max((long) bytes.capacity() * 2, (long) used + encoded.length);
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Name dictionary is full");
+            }
+            ByteBuffer grown = DirectBuffers.allocate((int) capacity);
+            grown.put(0, bytes, 0, used);
+            DirectBuffers.free(bytes);
+            bytes = grown;
+        }
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+            lengths = Arrays.copyOf(lengths, count * 2);
+            hashes = Arrays.copyOf(hashes, count * 2);
+        }
+        bytes.put(used, encoded);
+        offsets[count] = used;
+        lengths[count] = encoded.length;
+        hashes[count] = hash;
+        used += encoded.length;
+        return count++;
+    }
+
+    private boolean matches(int id, byte[] encoded) {
+        if (lengths[id] != encoded.length) {
+            return false;
+        }
+        int offset = offsets[id];
+        for (int i = 0; i < encoded.length; i++) {
+            if (bytes.get(offset + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int id = 0; id < count; id++) {
+            int slot = hashes[id] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+    }
+
+    private static int hash(byte[] encoded) {
+        int hash = Arrays.hashCode(encoded) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
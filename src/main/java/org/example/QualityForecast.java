@@ -0,0 +1,123 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  QualityForecast
+  @version  1.0.0 
+  @since 18.10.26 - 14.20
+*/
+
+/**
+ * Quality distribution of the items in stock, per category and day, summed over all
+ * replicas of a {@link MonteCarloForecaster} run. Day 0 is the starting inventory and
+ * day {@code d} the state after {@code d} updates. Qualities outside 0..50, such as
+ * Sulfuras' 80, are counted in stock and in the mean but not in the per-quality
+ * counts or percentiles.
+ */
+public final class QualityForecast {
+    static final int BUCKETS = QualityRules.MAX_QUALITY + 2;
+    static final int OUT_OF_RANGE = BUCKETS - 1;
+    private static final int CATEGORIES = ItemCategory.values().length;
+
+    private final int replicas;
+    private final int days;
+    private final long[] counts;
+    private final long[] qualitySums;
+
+    QualityForecast(int replicas, int days, long[] counts, long[] qualitySums) {
+        this.replicas = replicas;
+        this.days = days;
+        this.counts = counts;
+        this.qualitySums = qualitySums;
+    }
+
+    static int index(int day, int category) {
+        return day * CATEGORIES + category;
+    }
+
+    static int bucket(int quality) {
+        return quality >= 0 && quality <= QualityRules.MAX_QUALITY ? quality : OUT_OF_RANGE;
+    }
+
+    public int replicas() {
+        return replicas;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    /**
+     * Number of items of the category with exactly this quality on that day, summed
+     * over replicas.
+     */
+    public long count(ItemCategory category, int day, int quality) {
+        if (quality < 0 || quality > QualityRules.MAX_QUALITY) {
+            throw new IllegalArgumentException("Quality must be within 0..50: " + quality);
+        }
+        return counts[base(category, day) + quality];
+    }
+
+    /**
+     * Average number of items of the category in stock on that day.
+     */
+    public double meanStock(ItemCategory category, int day) {
+        return (double) stock(category, day) / replicas;
+    }
+
+    /**
+     * Average quality of the items of the category in stock on that day, or NaN if
+     * there were none.
+     */
+    public double meanQuality(ItemCategory category, int day) {
+        long stock = stock(category, day);
+        return stock == 0 ? Double.NaN : (double) qualitySums[index(checkDay(day), category.ordinal())] / stock;
+    }
+
+    /**
+     * Smallest quality in 0..50 at or below which {@code percentile} percent of the
+     * in-range items lie, or -1 if there are none.
+     */
+    public int qualityPercentile(ItemCategory category, int day, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be within 0..100: " + percentile);
+        }
+        int base = base(category, day);
+        long total = 0;
+        for (int quality = 0; quality <= QualityRules.MAX_QUALITY; quality++) {
+            total += counts[base + quality];
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int quality = 0; quality <= QualityRules.MAX_QUALITY; quality++) {
+            seen += counts[base + quality];
+            if (seen >= rank) {
+                return quality;
+            }
+        }
+        return QualityRules.MAX_QUALITY;
+    }
+
+    private long stock(ItemCategory category, int day) {
+        int base = base(category, day);
+        long stock = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            stock += counts[base + bucket];
+        }
+        return stock;
+    }
+
+    private int base(ItemCategory category, int day) {
+        return index(checkDay(day), category.ordinal()) * BUCKETS;
+    }
+
+    private int checkDay(int day) {
+        if (day < 0 || day > days) {
+            throw new IllegalArgumentException("Day must be within 0.." + days + ": " + day);
+        }
+        return day;
+    }
+}
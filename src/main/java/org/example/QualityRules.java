@@ -0,0 +1,178 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  QualityRules
+  @version  1.0.0 
+  @since 18.10.26 - 10.15
+*/
+
+/**
+ * The daily rules of {@link GlidedRose#updateQuality()} as pure functions of the
+ * state before the update. Conjured items decay like normal ones here, exactly as
+ * the original loop does.
+ */
+final class QualityRules {
+    static final int MAX_QUALITY = 50;
+
+    private QualityRules() {
+    }
+
+    /**
+     * Applies one daily update to the item in place and tells whether its sellIn or
+     * quality changed.
+     */
+    static boolean update(Item item) {
+        return update(item, item.category());
+    }
+
+    /**
+     * Same as {@link #update(Item)} for a caller that already has the item's category.
+     */
+    static boolean update(Item item, ItemCategory category) {
+        int sellIn = item.sellIn;
+        int quality = item.quality;
+        int nextQuality = nextQuality(category, sellIn, quality);
+        int nextSellIn = nextSellIn(category, sellIn);
+        item.quality = nextQuality;
+        item.sellIn = nextSellIn;
+        return nextSellIn != sellIn || nextQuality != quality;
+    }
+
+    /**
+     * Applies {@code days} daily updates to the item in place, in constant time.
+     */
+    static void advance(Item item, int days) {
+        ItemCategory category = item.category();
+        int sellIn = item.sellIn;
+        item.quality = qualityAfter(category, sellIn, item.quality, days);
+        item.sellIn = sellInAfter(category, sellIn, days);
+    }
+
+    static int nextSellIn(ItemCategory category, int sellIn) {
+        return category == ItemCategory.SULFURAS ? sellIn : sellIn - 1;
+    }
+
+    static int nextQuality(ItemCategory category, int sellIn, int quality) {
+        switch (category) {
+            case AGED_BRIE:
+                return agedBrie(sellIn, quality);
+            case BACKSTAGE_PASS:
+                return backstagePass(sellIn, quality);
+            case SULFURAS:
+                return quality;
+            default:
+                return normal(sellIn, quality);
+        }
+    }
+
+    static int normal(int sellIn, int quality) {
+        if (quality <= 0) {
+            return quality;
+        }
+        return Math.max(0, quality - (sellIn <= 0 ? 2 : 1));
+    }
+
+    static int conjured(int sellIn, int quality) {
+        if (quality <= 0) {
+            return quality;
+        }
+        return Math.max(0, quality - (sellIn <= 0 ? 4 : 2));
+    }
+
+    static int agedBrie(int sellIn, int quality) {
+        if (quality >= MAX_QUALITY) {
+            return quality;
+        }
+        return Math.min(MAX_QUALITY, quality + (sellIn <= 0 ? 2 : 1));
+    }
+
+    static int backstagePass(int sellIn, int quality) {
+        if (sellIn <= 0) {
+            return 0;
+        }
+        if (quality >= MAX_QUALITY) {
+            return quality;
+        }
+        int increase = 1 + (sellIn < 11 ? 1 : 0) + (sellIn < 6 ? 1 : 0);
+        return Math.min(MAX_QUALITY, quality + increase);
+    }
+
+    /**
+     * True when no further update can change the quality: Sulfuras, normal items at
+     * or below 0, Brie at or above 50, and Backstage passes already worth 0 after the
+     * concert. Only the sellIn of such items still moves.
+     */
+    static boolean isSettled(ItemCategory category, int sellIn, int quality) {
+        switch (category) {
+            case AGED_BRIE:
+                return quality >= MAX_QUALITY;
+            case BACKSTAGE_PASS:
+                return sellIn <= 0 && quality == 0;
+            case SULFURAS:
+                return true;
+            default:
+                return quality <= 0;
+        }
+    }
+
+    static int sellInAfter(ItemCategory category, int sellIn, int days) {
+        return category == ItemCategory.SULFURAS ? sellIn : sellIn - days;
+    }
+
+    /**
+     * Quality after {@code days} daily updates, in constant time. Every rule is
+     * linear in the number of days before and after the sell-by date, clamped at
+     * 0 and 50, so only those two day counts are needed.
+     */
+    static int qualityAfter(ItemCategory category, int sellIn, int quality, int days) {
+        if (days == 0) {
+            return quality;
+        }
+        switch (category) {
+            case AGED_BRIE:
+                return agedBrieAfter(sellIn, quality, days);
+            case BACKSTAGE_PASS:
+                return backstagePassAfter(sellIn, quality, days);
+            case SULFURAS:
+                return quality;
+            default:
+                return normalAfter(sellIn, quality, days);
+        }
+    }
+
+    static int normalAfter(int sellIn, int quality, int days) {
+        if (quality <= 0) {
+            return quality;
+        }
+        long decay = (long) days + expiredDays(sellIn, days);
+        return (int) Math.max(0, quality - decay);
+    }
+
+    static int agedBrieAfter(int sellIn, int quality, int days) {
+        if (quality >= MAX_QUALITY) {
+            return quality;
+        }
+        long growth = (long) days + expiredDays(sellIn, days);
+        return (int) Math.min(MAX_QUALITY, quality + growth);
+    }
+
+    static int backstagePassAfter(int sellIn, int quality, int days) {
+        if (days > sellIn) {
+            return 0;
+        }
+        if (quality >= MAX_QUALITY) {
+            return quality;
+        }
+        // every day here starts with 1 <= sellIn <= the initial sellIn
+        long firstSellIn = (long) sellIn - days + 1;
+        long tenOrFewer = Math.max(0, Math.min(sellIn, 10) - firstSellIn + 1);
+        long fiveOrFewer = Math.max(0, Math.min(sellIn, 5) - firstSellIn + 1);
+        return (int) Math.min(MAX_QUALITY, quality + days + tenOrFewer + fiveOrFewer);
+    }
+
+    /** Number of the next {@code days} updates that end past the sell-by date. */
+    private static long expiredDays(int sellIn, int days) {
+        return Math.max(0, (long) days - Math.max(sellIn, 0));
+    }
+}
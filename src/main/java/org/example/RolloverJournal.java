@@ -0,0 +1,370 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  RolloverJournal
+  @version  1.0.0 
+  @since 18.10.26 - 21.40
+*/
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journal of daily rollovers over an {@code Item[]}. Each day is logged as
+ * a begin record, one delta record per changed item (slot, old and new sellIn and
+ * quality) and a commit record carrying the delta count and a CRC. Items are updated in
+ * batches, keeping the earlier values of the batch until its deltas are written; the
+ * commit is the only forced write of a day.
+ *
+ * <p>{@link #open} replays every committed day onto the given items, which must be the
+ * snapshot taken when the journal was started or last checkpointed, and rolls back the
+ * deltas of a day that never committed, so that items updated in place before a crash
+ * are restored too. A day whose writes fail is rolled back the same way and cut off the
+ * file before the exception is rethrown. All values are little-endian.
+ */
+public final class RolloverJournal implements Closeable {
+    static final int MAGIC = 0x47524A4C;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 20;
+    static final int BATCH_SIZE = 4096;
+
+    private static final int BEGIN = -1;
+    private static final int COMMIT = -2;
+
+    private final FileChannel channel;
+    private final Item[] items;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * 2048).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32 crc = new CRC32();
+    private final int[] batchSellIn = new int[BATCH_SIZE];
+    private final int[] batchQuality = new int[BATCH_SIZE];
+    private int batchFrom;
+    private int batchTo;
+    private int day;
+    private boolean failed;
+
+    private RolloverJournal(FileChannel channel, Item[] items, int day) {
+        this.channel = channel;
+        this.items = items;
+        this.day = day;
+    }
+
+    /**
+     * Opens or creates the journal and brings {@code items} to the last committed day.
+     * A new journal starts at {@code startDay}; an existing one keeps its own.
+     */
+    public static RolloverJournal open(Path path, Item[] items, int startDay) throws IOException {
+        return open(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE), items, startDay);
+    }
+
+    /**
+     * Same as {@link #open(Path, Item[], int)} over a channel opened for reading and
+     * writing. The journal owns the channel and closes it, also if opening fails.
+     */
+    public static RolloverJournal open(FileChannel channel, Item[] items, int startDay) throws IOException {
+        try {
+            if (channel.size() == 0) {
+                writeHeader(channel, startDay);
+                channel.force(false);
+                return new RolloverJournal(channel, items, startDay);
+            }
+            Recovery recovery = replay(channel, items);
+            channel.truncate(recovery.committedEnd);
+            channel.position(recovery.committedEnd);
+            return new RolloverJournal(channel, items, recovery.day);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the journal to {@code items} without changing the file and returns the
+     * last committed day.
+     */
+    public static int recover(Path path, Item[] items) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return replay(channel, items).day;
+        }
+    }
+
+    /**
+     * Last committed day.
+     */
+    public int day() {
+        return day;
+    }
+
+    /**
+     * Runs one journaled daily update and returns the number of items that changed.
+     * If a write fails, the items and the file are put back to {@link #day()} before
+     * the exception is rethrown; if even that fails, the journal refuses further
+     * updates and has to be reopened from the snapshot.
+     */
+    public int updateQuality() throws IOException {
+        if (failed) {
+            throw new IllegalStateException("Journal could not roll back a failed day; reopen it");
+        }
+        long dayStart = channel.position();
+        try {
+            return appendDay();
+        } catch (IOException | RuntimeException e) {
+            rollBack(dayStart, e);
+            throw e;
+        }
+    }
+
+    private int appendDay() throws IOException {
+        int nextDay = day + 1;
+        crc.reset();
+        int deltas = 0;
+        put(BEGIN, nextDay, items.length, 0, 0, false);
+        for (int from = 0; from < items.length; from += BATCH_SIZE) {
+            int to = Math.min(items.length, from + BATCH_SIZE);
+            for (int i = from; i < to; i++) {
+                batchSellIn[i - from] = items[i].sellIn;
+                batchQuality[i - from] = items[i].quality;
+            }
+            batchFrom = from;
+            batchTo = to;
+            for (int i = from; i < to; i++) {
+                Item item = items[i];
+                if (QualityRules.update(item)) {
+                    put(i, batchSellIn[i - from], batchQuality[i - from], item.sellIn, item.quality, true);
+                    deltas++;
+                }
+            }
+            flush();
+            batchTo = batchFrom;
+        }
+        put(COMMIT, nextDay, deltas, (int) crc.getValue(), 0, false);
+        flush();
+        channel.force(false);
+        day = nextDay;
+        return deltas;
+    }
+
+    /**
+     * Empties the journal once the items of {@link #day()} have been saved as the new
+     * snapshot; replay then starts from that day.
+     */
+    public void checkpoint() throws IOException {
+        // header first: if the truncate is lost, the stale days no longer follow the start day
+        writeHeader(channel, day);
+        channel.force(false);
+        channel.truncate(HEADER_SIZE);
+        channel.force(false);
+        channel.position(HEADER_SIZE);
+    }
+
+    /**
+     * Restores the batch in progress from its saved values, undoes the deltas of the
+     * failed day that reached the file, which covers every earlier batch, and cuts the
+     * day off the file.
+     */
+    private void rollBack(long dayStart, Exception failure) {
+        buffer.clear();
+        for (int i = batchFrom; i < batchTo; i++) {
+            items[i].sellIn = batchSellIn[i - batchFrom];
+            items[i].quality = batchQuality[i - batchFrom];
+        }
+        batchTo = batchFrom;
+        try {
+            long end = channel.position();
+            ByteBuffer in = ByteBuffer.allocate(RECORD_SIZE * 1024).order(ByteOrder.LITTLE_ENDIAN);
+            int[] written = new int[5 * 1024];
+            int writtenCount = 0;
+            for (long position = dayStart; position + RECORD_SIZE <= end; ) {
+                in.clear().limit((int) Math.min(in.capacity(), (end - position) / RECORD_SIZE * RECORD_SIZE));
+                while (in.hasRemaining()) {
+                    if (channel.read(in, position + in.position()) < 0) {
+                        throw new IOException("Journal ended while rolling back");
+                    }
+                }
+                position += in.flip().remaining();
+                while (in.hasRemaining()) {
+                    int kind = in.getInt();
+                    if (kind >= 0 && kind < items.length) {
+                        if (writtenCount + 5 > written.length) {
+                            written = Arrays.copyOf(written, written.length * 2);
+                        }
+                        written[writtenCount++] = kind;
+                        written[writtenCount++] = in.getInt();
+                        written[writtenCount++] = in.getInt();
+                        written[writtenCount++] = in.getInt();
+                        written[writtenCount++] = in.getInt();
+                    } else {
+                        in.position(in.position() + RECORD_SIZE - 4);
+                    }
+                }
+            }
+            undo(items, written, writtenCount);
+            channel.truncate(dayStart);
+            channel.position(dayStart);
+        } catch (IOException | RuntimeException e) {
+            failure.addSuppressed(e);
+            failed = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void put(int kind, int a, int b, int c, int d, boolean delta) throws IOException {
+        if (buffer.remaining() < RECORD_SIZE) {
+            flush();
+        }
+        int start = buffer.position();
+        buffer.putInt(kind).putInt(a).putInt(b).putInt(c).putInt(d);
+        if (delta) {
+            ByteBuffer record = buffer.duplicate();
+            record.position(start).limit(start + RECORD_SIZE);
+            crc.update(record);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void writeHeader(FileChannel channel, int startDay) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(startDay).putInt(0).flip();
+        channel.position(0);
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    private static Recovery replay(FileChannel channel, Item[] items) throws IOException {
+        ByteBuffer in = ByteBuffer.allocateDirect(RECORD_SIZE * 4096).order(ByteOrder.LITTLE_ENDIAN);
+        channel.position(0);
+        in.limit(HEADER_SIZE);
+        fill(channel, in);
+        in.flip();
+        if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC) {
+            throw new IOException("Not a rollover journal");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported rollover journal version " + version);
+        }
+        int day = in.getInt();
+
+        long committedEnd = HEADER_SIZE;
+        long position = HEADER_SIZE;
+        int[] pending = new int[5 * 1024];
+        int pendingCount = 0;
+        boolean open = false;
+        CRC32 crc = new CRC32();
+        in.clear();
+        boolean endOfFile = false;
+        while (!endOfFile) {
+            endOfFile = fill(channel, in);
+            in.flip();
+            while (in.remaining() >= RECORD_SIZE) {
+                int start = in.position();
+                int kind = in.getInt();
+                int a = in.getInt();
+                int b = in.getInt();
+                int c = in.getInt();
+                int d = in.getInt();
+                position += RECORD_SIZE;
+                if (kind == BEGIN) {
+                    if (open || a != day + 1) {
+                        // a day that never committed, followed by garbage: stop here
+                        endOfFile = true;
+                        break;
+                    }
+                    if (b != items.length) {
+                        throw new IOException("Journal was written for " + b + " items, not " + items.length);
+                    }
+                    open = true;
+                    crc.reset();
+                } else if (kind == COMMIT) {
+                    if (!open || a != day + 1 || b != pendingCount / 5 || c != (int) crc.getValue()) {
+                        endOfFile = true;
+                        break;
+                    }
+                    redo(items, pending, pendingCount);
+                    pendingCount = 0;
+                    open = false;
+                    day = a;
+                    committedEnd = position;
+                } else if (open && kind >= 0 && kind < items.length) {
+                    ByteBuffer record = in.duplicate();
+                    record.position(start).limit(start + RECORD_SIZE);
+                    crc.update(record);
+                    if (pendingCount + 5 > pending.length) {
+                        pending = Arrays.copyOf(pending, pending.length * 2);
+                    }
+                    pending[pendingCount++] = kind;
+                    pending[pendingCount++] = a;
+                    pending[pendingCount++] = b;
+                    pending[pendingCount++] = c;
+                    pending[pendingCount++] = d;
+                } else {
+                    endOfFile = true;
+                    break;
+                }
+            }
+            in.compact();
+        }
+        // deltas of an unfinished day may already have been applied in place before the crash
+        undo(items, pending, pendingCount);
+        return new Recovery(day, committedEnd);
+    }
+
+    private static void redo(Item[] items, int[] pending, int count) {
+        for (int i = 0; i < count; i += 5) {
+            Item item = items[pending[i]];
+            item.sellIn = pending[i + 3];
+            item.quality = pending[i + 4];
+        }
+    }
+
+    private static void undo(Item[] items, int[] pending, int count) {
+        for (int i = count - 5; i >= 0; i -= 5) {
+            Item item = items[pending[i]];
+            item.sellIn = pending[i + 1];
+            item.quality = pending[i + 2];
+        }
+    }
+
+    /**
+     * Reads until the buffer is full; returns whether the end of the file was reached.
+     */
+    private static boolean fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Recovery {
+        final int day;
+        final long committedEnd;
+
+        Recovery(int day, long committedEnd) {
+            this.day = day;
+            this.committedEnd = committedEnd;
+        }
+    }
+}
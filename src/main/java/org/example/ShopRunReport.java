@@ -0,0 +1,68 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ShopRunReport
+  @version  1.0.0 
+  @since 18.10.26 - 09.10
+*/
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a {@link ShopScheduler} run did and how long it took. An item moved by
+ * several days counts once per day in {@link #itemDays()}.
+ */
+public final class ShopRunReport {
+    private final int shops;
+    private final long items;
+    private final long itemDays;
+    private final int batches;
+    private final long nanos;
+
+    ShopRunReport(int shops, long items, long itemDays, int batches, long nanos) {
+        this.shops = shops;
+        this.items = items;
+        this.itemDays = itemDays;
+        this.batches = batches;
+        this.nanos = nanos;
+    }
+
+    public int shops() {
+        return shops;
+    }
+
+    public long items() {
+        return items;
+    }
+
+    public long itemDays() {
+        return itemDays;
+    }
+
+    public int batches() {
+        return batches;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    public double itemsPerSecond() {
+        return perSecond(items);
+    }
+
+    public double itemDaysPerSecond() {
+        return perSecond(itemDays);
+    }
+
+    private double perSecond(long count) {
+        return nanos == 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d shops, %d items, %d item-days in %d batches, %.1f ms (%.0f item-days/s)",
+                shops, items, itemDays, batches, nanos / 1e6, itemDaysPerSecond());
+    }
+}
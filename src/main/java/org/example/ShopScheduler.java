@@ -0,0 +1,185 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  ShopScheduler
+  @version  1.0.0 
+  @since 18.10.26 - 09.10
+*/
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the daily updates of many independent shops as fork/join tasks. Small shops
+ * are coalesced into batches of about {@code batchSize} items so that a task is worth
+ * scheduling, and shops larger than a batch are split into ranges. Each shop can be
+ * moved by its own number of days.
+ */
+public final class ShopScheduler {
+    public static final int DEFAULT_BATCH_SIZE = 8192;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    public ShopScheduler() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    public ShopScheduler(ForkJoinPool pool, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Moves every shop by the same number of days.
+     */
+    public ShopRunReport run(GlidedRose[] shops, int days) {
+        int[] perShop = new int[shops.length];
+        Arrays.fill(perShop, days);
+        return run(shops, perShop);
+    }
+
+    /**
+     * Moves shop {@code i} by {@code days[i]} days, the same as calling
+     * {@link GlidedRose#advanceDays(int)} on each shop in turn.
+     */
+    public ShopRunReport run(GlidedRose[] shops, int[] days) {
+        if (days.length != shops.length) {
+            throw new IllegalArgumentException("Expected " + shops.length + " day counts, got " + days.length);
+        }
+        for (int day : days) {
+            if (day < 0) {
+                throw new IllegalArgumentException("Days must not be negative: " + day);
+            }
+        }
+        long start = System.nanoTime();
+        Plan plan = plan(shops, days);
+        if (plan.batchCount > 0) {
+            pool.invoke(new BatchTask(plan, 0, plan.batchCount));
+        }
+        return new ShopRunReport(shops.length, plan.items, plan.itemDays, plan.batchCount,
+                System.nanoTime() - start);
+    }
+
+    private Plan plan(GlidedRose[] shops, int[] days) {
+        Plan plan = new Plan(shops.length);
+        int pending = 0;
+        for (int shop = 0; shop < shops.length; shop++) {
+            Item[] items = shops[shop].getItems();
+            int length = items.length;
+            plan.items += length;
+            if (days[shop] == 0 || length == 0) {
+                continue;
+            }
+            plan.itemDays += (long) length * days[shop];
+            if (length >= batchSize) {
+                plan.closeBatch();
+                pending = 0;
+                for (int from = 0; from < length; from += batchSize) {
+                    plan.addSegment(items, from, Math.min(length, from + batchSize), days[shop]);
+                    plan.closeBatch();
+                }
+                continue;
+            }
+            plan.addSegment(items, 0, length, days[shop]);
+            pending += length;
+            if (pending >= batchSize) {
+                plan.closeBatch();
+                pending = 0;
+            }
+        }
+        plan.closeBatch();
+        return plan;
+    }
+
+    /**
+     * Flat list of item ranges; batch {@code b} covers segments
+     * {@code batchEnd[b - 1]} (or 0) to {@code batchEnd[b]}.
+     */
+    private static final class Plan {
+        Item[][] segmentItems;
+        int[] segmentFrom;
+        int[] segmentTo;
+        int[] segmentDays;
+        int segmentCount;
+        int[] batchEnd;
+        int batchCount;
+        long items;
+        long itemDays;
+
+        Plan(int capacity) {
+            capacity = Math.max(capacity, 1);
+            segmentItems = new Item[capacity][];
+            segmentFrom = new int[capacity];
+            segmentTo = new int[capacity];
+            segmentDays = new int[capacity];
+            batchEnd = new int[capacity];
+        }
+
+        void addSegment(Item[] items, int from, int to, int days) {
+            if (segmentCount == segmentFrom.length) {
+                int capacity = segmentCount * 2;
+                segmentItems = Arrays.copyOf(segmentItems, capacity);
+                segmentFrom = Arrays.copyOf(segmentFrom, capacity);
+                segmentTo = Arrays.copyOf(segmentTo, capacity);
+                segmentDays = Arrays.copyOf(segmentDays, capacity);
+            }
+            segmentItems[segmentCount] = items;
+            segmentFrom[segmentCount] = from;
+            segmentTo[segmentCount] = to;
+            segmentDays[segmentCount] = days;
+            segmentCount++;
+        }
+
+        void closeBatch() {
+            int start = batchCount == 0 ? 0 : batchEnd[batchCount - 1];
+            if (segmentCount == start) {
+                return;
+            }
+            if (batchCount == batchEnd.length) {
+                batchEnd = Arrays.copyOf(batchEnd, batchCount * 2);
+            }
+            batchEnd[batchCount++] = segmentCount;
+        }
+
+        void runBatch(int batch) {
+            int start = batch == 0 ? 0 : batchEnd[batch - 1];
+            for (int segment = start; segment < batchEnd[batch]; segment++) {
+                int days = segmentDays[segment];
+                if (days == 1) {
+                    GlidedRose.updateRange(segmentItems[segment], segmentFrom[segment], segmentTo[segment]);
+                } else {
+                    GlidedRose.advanceRange(segmentItems[segment], segmentFrom[segment], segmentTo[segment], days);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class BatchTask extends RecursiveAction {
+        private final Plan plan;
+        private final int from;
+        private final int to;
+
+        BatchTask(Plan plan, int from, int to) {
+            this.plan = plan;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                plan.runBatch(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BatchTask(plan, from, middle), new BatchTask(plan, middle, to));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  StandardRule
+  @version  1.0.0 
+  @since 18.10.26 - 13.10
+*/
+
+/**
+ * The built-in rules. {@link #CONJURED} degrades twice as fast as {@link #NORMAL}; it is
+ * only used by registries that opt into it. Each rule has its own {@code updateAll}
+ * loop calling its formula directly, so no loop is shared between rules and none
+ * dispatches per item.
+ */
+public enum StandardRule implements UpdateRule {
+    NORMAL {
+        @Override
+        public void update(Item item) {
+            int sellIn = item.sellIn;
+            item.quality = QualityRules.normal(sellIn, item.quality);
+            item.sellIn = sellIn - 1;
+        }
+
+        @Override
+        public void updateAll(Item[] items, int[] slots, int count) {
+            for (int i = 0; i < count; i++) {
+                Item item = items[slots[i]];
+                int sellIn = item.sellIn;
+                item.quality = QualityRules.normal(sellIn, item.quality);
+                item.sellIn = sellIn - 1;
+            }
+        }
+    },
+    AGED_BRIE {
+        @Override
+        public void update(Item item) {
+            int sellIn = item.sellIn;
+            item.quality = QualityRules.agedBrie(sellIn, item.quality);
+            item.sellIn = sellIn - 1;
+        }
+
+        @Override
+        public void updateAll(Item[] items, int[] slots, int count) {
+            for (int i = 0; i < count; i++) {
+                Item item = items[slots[i]];
+                int sellIn = item.sellIn;
+                item.quality = QualityRules.agedBrie(sellIn, item.quality);
+                item.sellIn = sellIn - 1;
+            }
+        }
+    },
+    BACKSTAGE_PASS {
+        @Override
+        public void update(Item item) {
+            int sellIn = item.sellIn;
+            item.quality = QualityRules.backstagePass(sellIn, item.quality);
+            item.sellIn = sellIn - 1;
+        }
+
+        @Override
+        public void updateAll(Item[] items, int[] slots, int count) {
+            for (int i = 0; i < count; i++) {
+                Item item = items[slots[i]];
+                int sellIn = item.sellIn;
+                item.quality = QualityRules.backstagePass(sellIn, item.quality);
+                item.sellIn = sellIn - 1;
+            }
+        }
+    },
+    LEGENDARY {
+        @Override
+        public void update(Item item) {
+        }
+
+        @Override
+        public void updateAll(Item[] items, int[] slots, int count) {
+        }
+    },
+    CONJURED {
+        @Override
+        public void update(Item item) {
+            int sellIn = item.sellIn;
+            item.quality = QualityRules.conjured(sellIn, item.quality);
+            item.sellIn = sellIn - 1;
+        }
+
+        @Override
+        public void updateAll(Item[] items, int[] slots, int count) {
+            for (int i = 0; i < count; i++) {
+                Item item = items[slots[i]];
+                int sellIn = item.sellIn;
+                item.quality = QualityRules.conjured(sellIn, item.quality);
+                item.sellIn = sellIn - 1;
+            }
+        }
+    };
+
+    /**
+     * The rule {@link UpdateRuleRegistry#standard()} resolves for items of the
+     * category, so Conjured items get {@link #NORMAL}.
+     */
+    static StandardRule of(ItemCategory category) {
+        switch (category) {
+            case AGED_BRIE:
+                return AGED_BRIE;
+            case BACKSTAGE_PASS:
+                return BACKSTAGE_PASS;
+            case SULFURAS:
+                return LEGENDARY;
+            default:
+                return NORMAL;
+        }
+    }
+}
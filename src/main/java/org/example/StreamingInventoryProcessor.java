@@ -0,0 +1,107 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  StreamingInventoryProcessor
+  @version  1.0.0 
+  @since 18.10.26 - 15.00
+*/
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+/**
+ * Advances an inventory of any size by a number of days while it streams from a
+ * reader to a writer. Only one chunk of items is held at a time, and the item objects
+ * of that chunk are reused, so memory use does not grow with the inventory.
+ *
+ * <p>Input lines may use either form accepted by {@link ItemRecords#parseInto};
+ * blank lines and the {@link ItemRecords#HEADER} line are skipped. Output is written in
+ * the {@code name, sellIn, quality} form.
+ */
+public final class StreamingInventoryProcessor {
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final int days;
+    private final Item[] chunk;
+
+    public StreamingInventoryProcessor(int days) {
+        this(days, DEFAULT_CHUNK_SIZE);
+    }
+
+    public StreamingInventoryProcessor(int days, int chunkSize) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.days = days;
+        this.chunk = new Item[chunkSize];
+        for (int i = 0; i < chunkSize; i++) {
+            chunk[i] = new Item(null, 0, 0);
+        }
+    }
+
+    /**
+     * Same output as {@link #process(BufferedReader, Writer)}, read and written through
+     * {@link ItemTextReader} and {@link ItemTextWriter} instead of character streams.
+     */
+    public long process(Path input, Path output) throws IOException {
+        long total = 0;
+        try (ItemTextReader in = ItemTextReader.open(input);
+             ItemTextWriter out = ItemTextWriter.open(output)) {
+            int filled;
+            while ((filled = in.read(chunk, 0, chunk.length)) > 0) {
+                GlidedRose.advanceRange(chunk, 0, filled, days);
+                out.write(chunk, 0, filled);
+                total += filled;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of items written. The writer is flushed but not closed.
+     */
+    public long process(BufferedReader in, Writer out) throws IOException {
+        long total = 0;
+        long lineNumber = 0;
+        int filled = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.equals(ItemRecords.HEADER)) {
+                continue;
+            }
+            try {
+                ItemRecords.parseInto(line, chunk[filled++]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            if (filled == chunk.length) {
+                writeChunk(filled, out);
+                total += filled;
+                filled = 0;
+            }
+        }
+        writeChunk(filled, out);
+        out.flush();
+        return total + filled;
+    }
+
+    private void writeChunk(int filled, Writer out) throws IOException {
+        GlidedRose.advanceRange(chunk, 0, filled, days);
+        for (int i = 0; i < filled; i++) {
+            Item item = chunk[i];
+            out.write(item.name);
+            out.write(", ");
+            out.write(Integer.toString(item.sellIn));
+            out.write(", ");
+            out.write(Integer.toString(item.quality));
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateDispatchTable
+  @version  1.0.0 
+  @since 18.10.26 - 13.35
+*/
+
+/**
+ * Items grouped by their resolved rule, built by {@link UpdateRuleRegistry#compile}.
+ * A daily update runs each rule once over its own dense slot list, so no name is
+ * looked at again.
+ */
+public final class UpdateDispatchTable {
+    private final Item[] items;
+    private final UpdateRule[] rules;
+    private final int[][] slots;
+
+    UpdateDispatchTable(Item[] items, UpdateRule[] rules, int[][] slots) {
+        this.items = items;
+        this.rules = rules;
+        this.slots = slots;
+    }
+
+    public void updateQuality() {
+        for (int r = 0; r < rules.length; r++) {
+            rules[r].updateAll(items, slots[r], slots[r].length);
+        }
+    }
+
+    public int ruleCount() {
+        return rules.length;
+    }
+
+    public UpdateRule rule(int ruleIndex) {
+        return rules[ruleIndex];
+    }
+
+    public int[] slots(int ruleIndex) {
+        return slots[ruleIndex].clone();
+    }
+}
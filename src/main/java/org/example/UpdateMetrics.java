@@ -0,0 +1,211 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateMetrics
+  @version  1.0.0 
+  @since 18.10.26 - 20.25
+*/
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Totals over all instrumented update runs. Pass an instance to
+ * {@link GlidedRose#updateQuality(UpdateMetrics)} or
+ * {@link CategoryPartitions#updateQuality(UpdateMetrics)}; the plain
+ * {@code updateQuality()} methods are not instrumented and pay nothing for it.
+ *
+ * <p>A run counts into its own {@link UpdateRunStats}, one category at a time and in
+ * local variables, and is added to the shared {@link LongAdder}s once it ends; it is
+ * timed as a whole, never per item, and there are no contended writes.
+ */
+public final class UpdateMetrics implements UpdateMetricsMXBean {
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final Map<ItemCategory, CategoryCounters> byCategory = new EnumMap<>(ItemCategory.class);
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final List<MetricsReporter> reporters = new CopyOnWriteArrayList<>();
+
+    public UpdateMetrics() {
+        for (ItemCategory category : CATEGORIES) {
+            byCategory.put(category, new CategoryCounters());
+        }
+    }
+
+    public UpdateMetrics addReporter(MetricsReporter reporter) {
+        reporters.add(reporter);
+        return this;
+    }
+
+    public void removeReporter(MetricsReporter reporter) {
+        reporters.remove(reporter);
+    }
+
+    /**
+     * Registers this instance with the platform MBean server as
+     * {@code org.example:type=UpdateMetrics,name=<name>}.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName("org.example:type=UpdateMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    UpdateRunStats startRun() {
+        return new UpdateRunStats();
+    }
+
+    void record(UpdateRunStats run) {
+        runs.increment();
+        totalNanos.add(run.nanos());
+        latency.record(run.nanos());
+        for (ItemCategory category : CATEGORIES) {
+            CategoryCounters counters = byCategory.get(category);
+            counters.items.add(run.items(category));
+            counters.qualityChanged.add(run.qualityChanged(category));
+            counters.hitCap.add(run.hitCap(category));
+            counters.hitZero.add(run.hitZero(category));
+            counters.pastSellBy.add(run.pastSellBy(category));
+            counters.nanos.add(run.nanos(category));
+        }
+        for (MetricsReporter reporter : reporters) {
+            reporter.report(run);
+        }
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    public long items(ItemCategory category) {
+        return byCategory.get(category).items.sum();
+    }
+
+    public long qualityChanged(ItemCategory category) {
+        return byCategory.get(category).qualityChanged.sum();
+    }
+
+    public long hitCap(ItemCategory category) {
+        return byCategory.get(category).hitCap.sum();
+    }
+
+    public long hitZero(ItemCategory category) {
+        return byCategory.get(category).hitZero.sum();
+    }
+
+    public long pastSellBy(ItemCategory category) {
+        return byCategory.get(category).pastSellBy.sum();
+    }
+
+    public long nanos(ItemCategory category) {
+        return byCategory.get(category).nanos.sum();
+    }
+
+    @Override
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    @Override
+    public long getItemsUpdated() {
+        long total = 0;
+        for (ItemCategory category : CATEGORIES) {
+            total += items(category);
+        }
+        return total;
+    }
+
+    @Override
+    public long getQualityChanged() {
+        long total = 0;
+        for (ItemCategory category : CATEGORIES) {
+            total += qualityChanged(category);
+        }
+        return total;
+    }
+
+    @Override
+    public long getHitCap() {
+        long total = 0;
+        for (ItemCategory category : CATEGORIES) {
+            total += hitCap(category);
+        }
+        return total;
+    }
+
+    @Override
+    public long getHitZero() {
+        long total = 0;
+        for (ItemCategory category : CATEGORIES) {
+            total += hitZero(category);
+        }
+        return total;
+    }
+
+    @Override
+    public long getPastSellBy() {
+        long total = 0;
+        for (ItemCategory category : CATEGORIES) {
+            total += pastSellBy(category);
+        }
+        return total;
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return latency.percentile(50);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return latency.percentile(99);
+    }
+
+    @Override
+    public long getLatencyMaxNanos() {
+        return latency.max();
+    }
+
+    @Override
+    public Map<String, Long> getQualityChangedByCategory() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (ItemCategory category : CATEGORIES) {
+            values.put(category.name(), qualityChanged(category));
+        }
+        return values;
+    }
+
+    @Override
+    public Map<String, Long> getNanosByCategory() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (ItemCategory category : CATEGORIES) {
+            values.put(category.name(), nanos(category));
+        }
+        return values;
+    }
+
+    private static final class CategoryCounters {
+        final LongAdder items = new LongAdder();
+        final LongAdder qualityChanged = new LongAdder();
+        final LongAdder hitCap = new LongAdder();
+        final LongAdder hitZero = new LongAdder();
+        final LongAdder pastSellBy = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateMetricsMXBean
+  @version  1.0.0 
+  @since 18.10.26 - 20.20
+*/
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link UpdateMetrics}. Per-category values are keyed by category name.
+ */
+public interface UpdateMetricsMXBean {
+
+    long getRuns();
+
+    long getItemsUpdated();
+
+    long getQualityChanged();
+
+    long getHitCap();
+
+    long getHitZero();
+
+    long getPastSellBy();
+
+    long getTotalNanos();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyMaxNanos();
+
+    Map<String, Long> getQualityChangedByCategory();
+
+    Map<String, Long> getNanosByCategory();
+}
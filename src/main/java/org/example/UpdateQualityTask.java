@@ -0,0 +1,41 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateQualityTask
+  @version  1.0.0 
+  @since 18.10.26 - 11.20
+*/
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits a range of items in halves until it is below the threshold, then updates
+ * the range sequentially. Items are independent, so the split order has no effect
+ * on the result.
+ */
+@SuppressWarnings("serial")
+final class UpdateQualityTask extends RecursiveAction {
+    private final Item[] items;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    UpdateQualityTask(Item[] items, int from, int to, int threshold) {
+        this.items = items;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            GlidedRose.updateRange(items, from, to);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new UpdateQualityTask(items, from, middle, threshold),
+                new UpdateQualityTask(items, middle, to, threshold));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateRule
+  @version  1.0.0 
+  @since 18.10.26 - 13.05
+*/
+
+/**
+ * One day's update for the items of a single kind.
+ */
+@FunctionalInterface
+public interface UpdateRule {
+
+    void update(Item item);
+
+    /**
+     * Updates {@code items[slots[0]]} to {@code items[slots[count - 1]]}. Rules that
+     * can do the whole run more cheaply than item by item override this; the default
+     * loop is shared by every rule that keeps it, so its {@code update} call is only
+     * inlined while a single such rule is in use.
+     */
+    default void updateAll(Item[] items, int[] slots, int count) {
+        for (int i = 0; i < count; i++) {
+            update(items[slots[i]]);
+        }
+    }
+}
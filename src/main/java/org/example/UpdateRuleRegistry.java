@@ -0,0 +1,123 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateRuleRegistry
+  @version  1.0.0 
+  @since 18.10.26 - 13.20
+*/
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps item names to update rules. An exact name wins over a prefix, and the longest
+ * matching prefix wins over shorter ones; anything else gets the fallback rule.
+ */
+public final class UpdateRuleRegistry {
+    private final Map<String, UpdateRule> byName = new HashMap<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final Map<String, UpdateRule> byPrefix = new HashMap<>();
+    private UpdateRule fallback = StandardRule.NORMAL;
+
+    /**
+     * The rules {@link GlidedRose#updateQuality()} applies, where Conjured items still
+     * decay like normal ones.
+     */
+    public static UpdateRuleRegistry standard() {
+        return new UpdateRuleRegistry()
+                .register(ItemCategory.AGED_BRIE_NAME, StandardRule.AGED_BRIE)
+                .register(ItemCategory.BACKSTAGE_PASS_NAME, StandardRule.BACKSTAGE_PASS)
+                .register(ItemCategory.SULFURAS_NAME, StandardRule.LEGENDARY);
+    }
+
+    /**
+     * The standard rules plus Conjured items degrading twice as fast as normal ones.
+     */
+    public static UpdateRuleRegistry withConjured() {
+        return standard().registerPrefix(ItemCategory.CONJURED_PREFIX, StandardRule.CONJURED);
+    }
+
+    public UpdateRuleRegistry register(String name, UpdateRule rule) {
+        byName.put(name, requireRule(rule));
+        return this;
+    }
+
+    public UpdateRuleRegistry registerPrefix(String prefix, UpdateRule rule) {
+        if (byPrefix.put(prefix, requireRule(rule)) == null) {
+            prefixes.add(prefix);
+            prefixes.sort((a, b) -> b.length() - a.length());
+        }
+        return this;
+    }
+
+    public UpdateRuleRegistry fallback(UpdateRule rule) {
+        fallback = requireRule(rule);
+        return this;
+    }
+
+    public UpdateRule resolve(String name) {
+        UpdateRule rule = byName.get(name);
+        if (rule != null) {
+            return rule;
+        }
+        if (name != null) {
+            for (String prefix : prefixes) {
+                if (name.startsWith(prefix)) {
+                    return byPrefix.get(prefix);
+                }
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Resolves every item once, each distinct name only once, and groups the slots
+     * by rule. The table has to be compiled again after items are renamed or replaced.
+     */
+    public UpdateDispatchTable compile(Item[] items) {
+        Map<String, Integer> ruleIndexByName = new HashMap<>();
+        Map<UpdateRule, Integer> ruleIndexByRule = new HashMap<>();
+        List<UpdateRule> rules = new ArrayList<>();
+        int[] ruleOf = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            String name = items[i].name;
+            Integer index = ruleIndexByName.get(name);
+            if (index == null) {
+                UpdateRule rule = resolve(name);
+                index = ruleIndexByRule.get(rule);
+                if (index == null) {
+                    index = rules.size();
+                    rules.add(rule);
+                    ruleIndexByRule.put(rule, index);
+                }
+                ruleIndexByName.put(name, index);
+            }
+            ruleOf[i] = index;
+        }
+
+        int[] counts = new int[rules.size()];
+        for (int r : ruleOf) {
+            counts[r]++;
+        }
+        int[][] slots = new int[rules.size()][];
+        for (int r = 0; r < slots.length; r++) {
+            slots[r] = new int[counts[r]];
+            counts[r] = 0;
+        }
+        for (int i = 0; i < items.length; i++) {
+            int r = ruleOf[i];
+            slots[r][counts[r]++] = i;
+        }
+        return new UpdateDispatchTable(items, rules.toArray(new UpdateRule[0]), slots);
+    }
+
+    private static UpdateRule requireRule(UpdateRule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("Rule must not be null");
+        }
+        return rule;
+    }
+}
@@ -0,0 +1,251 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  UpdateRunStats
+  @version  1.0.0 
+  @since 18.10.26 - 20.05
+*/
+
+/**
+ * Counts and timings of a single instrumented update run, per category. Filled by the
+ * thread doing the run and handed to {@link MetricsReporter}s once it is finished.
+ *
+ * <p>A run over a range first sorts each chunk of slots into one list per category,
+ * then updates and counts every list in a loop of its own. Inside such a loop the
+ * category is fixed, so the rule's branches and the counting predict as well as in
+ * {@link CategoryPartitions}, and the counts stay in local variables.
+ */
+public final class UpdateRunStats {
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+    private static final int ITEMS = 0;
+    private static final int CHANGED = 1;
+    private static final int HIT_CAP = 2;
+    private static final int HIT_ZERO = 3;
+    private static final int PAST_SELL_BY = 4;
+    private static final int COUNTERS = 5;
+
+    // while a chunk is sorted, the fill of every category's list is packed into one
+    // long, so that the loop keeps them in a register; a chunk is small enough for no
+    // field to overflow
+    private static final int FIELD_BITS = Long.SIZE / CATEGORIES.length;
+    private static final long FIELD_MASK = (1L << FIELD_BITS) - 1;
+    private static final int CHUNK = (int) FIELD_MASK;
+
+    private final long[] counters = new long[CATEGORIES.length * COUNTERS];
+    private final long[] categoryNanos = new long[CATEGORIES.length];
+    private long nanos;
+
+    UpdateRunStats() {
+    }
+
+    /**
+     * Length of the scratch array {@link #updateRange} needs for {@code length} items.
+     */
+    static int listsLength(int length) {
+        return CATEGORIES.length * Math.min(CHUNK, length);
+    }
+
+    /**
+     * Applies one day's update to the items from {@code from} (inclusive) to {@code to}
+     * (exclusive) and counts what happened to them. {@code lists} is scratch space of at
+     * least {@link #listsLength} ints, kept by the caller so that a run allocates nothing
+     * in proportion to the items.
+     */
+    void updateRange(Item[] items, int from, int to, int[] lists) {
+        int stride = Math.min(CHUNK, to - from);
+        for (int start = from; start < to; start += CHUNK) {
+            int end = Math.min(to, start + CHUNK);
+            long fills = 0;
+            for (int i = start; i < end; i++) {
+                int category = items[i].category().ordinal();
+                int shift = category * FIELD_BITS;
+                lists[category * stride + (int) ((fills >>> shift) & FIELD_MASK)] = i;
+                fills += 1L << shift;
+            }
+            for (ItemCategory category : CATEGORIES) {
+                int listStart = category.ordinal() * stride;
+                int count = (int) ((fills >>> (category.ordinal() * FIELD_BITS)) & FIELD_MASK);
+                update(category, items, lists, listStart, listStart + count);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #updateRange} for items of one category in the given slots.
+     */
+    void updateSlots(ItemCategory category, Item[] items, int[] slots) {
+        update(category, items, slots, 0, slots.length);
+    }
+
+    private void update(ItemCategory category, Item[] items, int[] slots, int from, int to) {
+        switch (category) {
+            case AGED_BRIE:
+                updateAgedBrie(items, slots, from, to);
+                break;
+            case BACKSTAGE_PASS:
+                updateBackstagePasses(items, slots, from, to);
+                break;
+            case SULFURAS:
+                skipped(category, to - from);
+                break;
+            default:
+                updateNormal(category, items, slots, from, to);
+                break;
+        }
+    }
+
+    // the three loops differ only in the rule; sellIn only ever drops by one, so an
+    // item passes its sell-by date when it is updated at 0
+
+    private void updateNormal(ItemCategory category, Item[] items, int[] slots, int from, int to) {
+        int changed = 0;
+        int hitCap = 0;
+        int hitZero = 0;
+        int pastSellBy = 0;
+        for (int i = from; i < to; i++) {
+            Item item = items[slots[i]];
+            int sellIn = item.sellIn;
+            int quality = item.quality;
+            int nextQuality = QualityRules.normal(sellIn, quality);
+            item.quality = nextQuality;
+            item.sellIn = sellIn - 1;
+            int moved = nextQuality != quality ? 1 : 0;
+            changed += moved;
+            hitCap += nextQuality == QualityRules.MAX_QUALITY ? moved : 0;
+            hitZero += nextQuality == 0 ? moved : 0;
+            pastSellBy += sellIn == 0 ? 1 : 0;
+        }
+        add(category, to - from, changed, hitCap, hitZero, pastSellBy);
+    }
+
+    private void updateAgedBrie(Item[] items, int[] slots, int from, int to) {
+        int changed = 0;
+        int hitCap = 0;
+        int hitZero = 0;
+        int pastSellBy = 0;
+        for (int i = from; i < to; i++) {
+            Item item = items[slots[i]];
+            int sellIn = item.sellIn;
+            int quality = item.quality;
+            int nextQuality = QualityRules.agedBrie(sellIn, quality);
+            item.quality = nextQuality;
+            item.sellIn = sellIn - 1;
+            int moved = nextQuality != quality ? 1 : 0;
+            changed += moved;
+            hitCap += nextQuality == QualityRules.MAX_QUALITY ? moved : 0;
+            hitZero += nextQuality == 0 ? moved : 0;
+            pastSellBy += sellIn == 0 ? 1 : 0;
+        }
+        add(ItemCategory.AGED_BRIE, to - from, changed, hitCap, hitZero, pastSellBy);
+    }
+
+    private void updateBackstagePasses(Item[] items, int[] slots, int from, int to) {
+        int changed = 0;
+        int hitCap = 0;
+        int hitZero = 0;
+        int pastSellBy = 0;
+        for (int i = from; i < to; i++) {
+            Item item = items[slots[i]];
+            int sellIn = item.sellIn;
+            int quality = item.quality;
+            int nextQuality = QualityRules.backstagePass(sellIn, quality);
+            item.quality = nextQuality;
+            item.sellIn = sellIn - 1;
+            int moved = nextQuality != quality ? 1 : 0;
+            changed += moved;
+            hitCap += nextQuality == QualityRules.MAX_QUALITY ? moved : 0;
+            hitZero += nextQuality == 0 ? moved : 0;
+            pastSellBy += sellIn == 0 ? 1 : 0;
+        }
+        add(ItemCategory.BACKSTAGE_PASS, to - from, changed, hitCap, hitZero, pastSellBy);
+    }
+
+    private void add(ItemCategory category, int items, int changed, int hitCap, int hitZero, int pastSellBy) {
+        int base = category.ordinal() * COUNTERS;
+        counters[base + ITEMS] += items;
+        counters[base + CHANGED] += changed;
+        counters[base + HIT_CAP] += hitCap;
+        counters[base + HIT_ZERO] += hitZero;
+        counters[base + PAST_SELL_BY] += pastSellBy;
+    }
+
+    /**
+     * Counts items that were skipped because they cannot change.
+     */
+    void skipped(ItemCategory category, int count) {
+        counters[category.ordinal() * COUNTERS + ITEMS] += count;
+    }
+
+    void categoryNanos(ItemCategory category, long elapsed) {
+        categoryNanos[category.ordinal()] += elapsed;
+    }
+
+    void finish(long elapsed) {
+        nanos = elapsed;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * Time spent on one category, or 0 when the run did not process categories
+     * separately.
+     */
+    public long nanos(ItemCategory category) {
+        return categoryNanos[category.ordinal()];
+    }
+
+    public long items(ItemCategory category) {
+        return counter(category, ITEMS);
+    }
+
+    public long qualityChanged(ItemCategory category) {
+        return counter(category, CHANGED);
+    }
+
+    public long hitCap(ItemCategory category) {
+        return counter(category, HIT_CAP);
+    }
+
+    public long hitZero(ItemCategory category) {
+        return counter(category, HIT_ZERO);
+    }
+
+    public long pastSellBy(ItemCategory category) {
+        return counter(category, PAST_SELL_BY);
+    }
+
+    public long items() {
+        return total(ITEMS);
+    }
+
+    public long qualityChanged() {
+        return total(CHANGED);
+    }
+
+    public long hitCap() {
+        return total(HIT_CAP);
+    }
+
+    public long hitZero() {
+        return total(HIT_ZERO);
+    }
+
+    public long pastSellBy() {
+        return total(PAST_SELL_BY);
+    }
+
+    private long counter(ItemCategory category, int counter) {
+        return counters[category.ordinal() * COUNTERS + counter];
+    }
+
+    private long total(int counter) {
+        long total = 0;
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            total += counters[c * COUNTERS + counter];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  VectorQualityKernel
+  @version  1.0.0 
+  @since 18.10.26 - 19.10
+*/
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link QualityRules} over the columnar arrays with the incubating Vector API. Every
+ * rule is computed for all lanes and the right result is blended in per category.
+ * Only touched once {@link ColumnarInventory#isVectorUpdateAvailable()} has confirmed
+ * that the module is present, and only used where {@link #isSupported()}.
+ */
+final class VectorQualityKernel {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    /** One byte lane per int lane of {@link #INTS}, or {@code null} if no shape fits. */
+    private static final VectorSpecies<Byte> BYTES = byteSpecies(INTS.length());
+
+    private static final int AGED_BRIE = ItemCategory.AGED_BRIE.code();
+    private static final int BACKSTAGE_PASS = ItemCategory.BACKSTAGE_PASS.code();
+    private static final int SULFURAS = ItemCategory.SULFURAS.code();
+
+    private VectorQualityKernel() {
+    }
+
+    /**
+     * Whether the hardware vectors hold at least 8 ints. Narrower ones would need a
+     * byte vector below the smallest shape, and gain too little over the scalar loop.
+     */
+    static boolean isSupported() {
+        return BYTES != null;
+    }
+
+    private static VectorSpecies<Byte> byteSpecies(int lanes) {
+        switch (lanes * Byte.SIZE) {
+            case 64:
+                return ByteVector.SPECIES_64;
+            case 128:
+                return ByteVector.SPECIES_128;
+            case 256:
+                return ByteVector.SPECIES_256;
+            case 512:
+                return ByteVector.SPECIES_512;
+            default:
+                return null;
+        }
+    }
+
+    static void update(byte[] categories, int[] sellIn, int[] quality) {
+        IntVector zero = IntVector.zero(INTS);
+        IntVector one = IntVector.broadcast(INTS, 1);
+        IntVector two = IntVector.broadcast(INTS, 2);
+        IntVector max = IntVector.broadcast(INTS, QualityRules.MAX_QUALITY);
+
+        int bound = INTS.loopBound(sellIn.length);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            IntVector category = (IntVector) ByteVector.fromArray(BYTES, categories, i)
+                    .convertShape(VectorOperators.B2I, INTS, 0);
+            IntVector s = IntVector.fromArray(INTS, sellIn, i);
+            IntVector q = IntVector.fromArray(INTS, quality, i);
+
+            VectorMask<Integer> expired = s.compare(VectorOperators.LE, 0);
+            VectorMask<Integer> belowMax = q.compare(VectorOperators.LT, QualityRules.MAX_QUALITY);
+            IntVector step = one.blend(two, expired);
+
+            IntVector normal = q.blend(q.sub(step).max(zero), q.compare(VectorOperators.GT, 0));
+            IntVector agedBrie = q.blend(q.add(step).min(max), belowMax);
+            IntVector passIncrease = one
+                    .add(one, s.compare(VectorOperators.LT, 11))
+                    .add(one, s.compare(VectorOperators.LT, 6));
+            IntVector backstagePass = q.blend(q.add(passIncrease).min(max), belowMax).blend(zero, expired);
+
+            VectorMask<Integer> sulfuras = category.eq(SULFURAS);
+            normal.blend(agedBrie, category.eq(AGED_BRIE))
+                    .blend(backstagePass, category.eq(BACKSTAGE_PASS))
+                    .blend(q, sulfuras)
+                    .intoArray(quality, i);
+            s.sub(one, sulfuras.not()).intoArray(sellIn, i);
+        }
+        for (; i < sellIn.length; i++) {
+            ItemCategory category = ItemCategory.fromCode(categories[i]);
+            int currentSellIn = sellIn[i];
+            quality[i] = QualityRules.nextQuality(category, currentSellIn, quality[i]);
+            sellIn[i] = QualityRules.nextSellIn(category, currentSellIn);
+        }
+    }
+}
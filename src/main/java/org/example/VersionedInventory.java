@@ -0,0 +1,163 @@
+package org.example;
+/*
+  @author   george
+  @project   gilded-rose
+  @class  VersionedInventory
+  @version  1.0.0 
+  @since 18.10.26 - 17.50
+*/
+
+import java.util.Arrays;
+
+/**
+ * Inventory that remembers every item's state for the last {@code retentionDays}
+ * days. Instead of copying the inventory per day, each item keeps a list of
+ * checkpoints, appended only on days its quality changes; between checkpoints the
+ * sellIn follows from the day count. Items that do not change share nothing new,
+ * and a past state is found by binary search over one item's checkpoints.
+ */
+public final class VersionedInventory {
+    private static final int INITIAL_CHECKPOINTS = 4;
+
+    private final String[] names;
+    private final ItemCategory[] categories;
+    private final int[] sellIn;
+    private final int[] quality;
+    private final int[][] checkpointDays;
+    private final int[][] checkpointSellIn;
+    private final int[][] checkpointQuality;
+    private final int[] checkpointCount;
+    private final int retentionDays;
+    private int day;
+
+    public VersionedInventory(Item[] items, int retentionDays) {
+        if (retentionDays < 0) {
+            throw new IllegalArgumentException("Retention must not be negative: " + retentionDays);
+        }
+        int size = items.length;
+        this.retentionDays = retentionDays;
+        names = new String[size];
+        categories = new ItemCategory[size];
+        sellIn = new int[size];
+        quality = new int[size];
+        checkpointDays = new int[size][INITIAL_CHECKPOINTS];
+        checkpointSellIn = new int[size][INITIAL_CHECKPOINTS];
+        checkpointQuality = new int[size][INITIAL_CHECKPOINTS];
+        checkpointCount = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            names[slot] = items[slot].name;
+            categories[slot] = items[slot].category();
+            sellIn[slot] = items[slot].sellIn;
+            quality[slot] = items[slot].quality;
+            checkpoint(slot);
+        }
+    }
+
+    public void updateQuality() {
+        day++;
+        for (int slot = 0; slot < names.length; slot++) {
+            ItemCategory category = categories[slot];
+            int currentSellIn = sellIn[slot];
+            int currentQuality = quality[slot];
+            quality[slot] = QualityRules.nextQuality(category, currentSellIn, currentQuality);
+            sellIn[slot] = QualityRules.nextSellIn(category, currentSellIn);
+            if (quality[slot] != currentQuality) {
+                checkpoint(slot);
+            }
+        }
+    }
+
+    public int day() {
+        return day;
+    }
+
+    public int oldestDay() {
+        return Math.max(0, day - retentionDays);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public int quality(int slot, int atDay) {
+        return checkpointQuality[slot][checkpointAt(slot, atDay)];
+    }
+
+    public int sellIn(int slot, int atDay) {
+        int checkpoint = checkpointAt(slot, atDay);
+        int elapsed = atDay - checkpointDays[slot][checkpoint];
+        return QualityRules.sellInAfter(categories[slot], checkpointSellIn[slot][checkpoint], elapsed);
+    }
+
+    public Item item(int slot, int atDay) {
+        return new Item(names[slot], sellIn(slot, atDay), quality(slot, atDay));
+    }
+
+    public Item[] snapshot(int atDay) {
+        checkDay(atDay);
+        Item[] items = new Item[names.length];
+        for (int slot = 0; slot < items.length; slot++) {
+            items[slot] = item(slot, atDay);
+        }
+        return items;
+    }
+
+    /**
+     * Number of stored checkpoints for a slot, at most one per retained day.
+     */
+    public int checkpointCount(int slot) {
+        return checkpointCount[slot];
+    }
+
+    private int checkpointAt(int slot, int atDay) {
+        checkDay(atDay);
+        int index = Arrays.binarySearch(checkpointDays[slot], 0, checkpointCount[slot], atDay);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private void checkDay(int atDay) {
+        if (atDay < oldestDay() || atDay > day) {
+            throw new IllegalArgumentException("Day " + atDay + " is outside the retained range "
+                    + oldestDay() + ".." + day);
+        }
+    }
+
+    private void checkpoint(int slot) {
+        int count = checkpointCount[slot];
+        if (count == checkpointDays[slot].length) {
+            count = dropExpired(slot);
+            if (count == checkpointDays[slot].length) {
+                int capacity = count * 2;
+                checkpointDays[slot] = Arrays.copyOf(checkpointDays[slot], capacity);
+                checkpointSellIn[slot] = Arrays.copyOf(checkpointSellIn[slot], capacity);
+                checkpointQuality[slot] = Arrays.copyOf(checkpointQuality[slot], capacity);
+            }
+        }
+        checkpointDays[slot][count] = day;
+        checkpointSellIn[slot][count] = sellIn[slot];
+        checkpointQuality[slot][count] = quality[slot];
+        checkpointCount[slot] = count + 1;
+    }
+
+    /**
+     * Drops checkpoints that no retained day can reach: all but the last one at or
+     * before the oldest retained day.
+     */
+    private int dropExpired(int slot) {
+        int count = checkpointCount[slot];
+        int[] days = checkpointDays[slot];
+        int oldest = oldestDay();
+        int keepFrom = 0;
+        while (keepFrom + 1 < count && days[keepFrom + 1] <= oldest) {
+            keepFrom++;
+        }
+        if (keepFrom > 0) {
+            int kept = count - keepFrom;
+            System.arraycopy(days, keepFrom, days, 0, kept);
+            System.arraycopy(checkpointSellIn[slot], keepFrom, checkpointSellIn[slot], 0, kept);
+            System.arraycopy(checkpointQuality[slot], keepFrom, checkpointQuality[slot], 0, kept);
+            checkpointCount[slot] = kept;
+        }
+        return checkpointCount[slot];
+    }
+}
@@ -0,0 +1,64 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+
+public class AdvanceDaysTest {
+
+	private static final String[] NAMES = {
+		"Elixir of the Mongoose",
+		"Aged Brie",
+		"Backstage passes to a TAFKAL80ETC concert",
+		"Sulfuras, Hand of Ragnaros",
+		"Conjured Mana Cake"
+	};
+
+	@Test
+	public void matchesIterativeUpdateForEveryStartStateAndDayCount() {
+		for (String name : NAMES) {
+			for (int sellIn = -15; sellIn <= 20; sellIn++) {
+				for (int quality = -3; quality <= 82; quality++) {
+					Item[] iterated = {new Item(name, sellIn, quality)};
+					for (int days = 1; days <= 40; days++) {
+						TestInventories.legacyUpdateQuality(iterated);
+						Item[] advanced = {new Item(name, sellIn, quality)};
+						new GlidedRose(advanced).advanceDays(days);
+						assertEquals(iterated[0], advanced[0], name + " " + sellIn + "/" + quality + " after " + days);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void matchesIterativeUpdateOverTenThousandDays() {
+		Item[] items = TestInventories.random(3, 500);
+		Item[] expected = TestInventories.copy(items);
+		for (int day = 0; day < 10_000; day++) {
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		new GlidedRose(items).advanceDays(10_000);
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void consecutiveAdvancesCompose() {
+		Item[] items = TestInventories.mixed();
+		Item[] expected = TestInventories.copy(items);
+		GlidedRose app = new GlidedRose(items);
+		app.advanceDays(3);
+		app.advanceDays(0);
+		app.advanceDays(9);
+		new GlidedRose(expected).advanceDays(12);
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void rejectsNegativeDays() {
+		GlidedRose app = new GlidedRose(TestInventories.mixed());
+		assertThrows(IllegalArgumentException.class, () -> app.advanceDays(-1));
+	}
+}
@@ -0,0 +1,92 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.example.ItemView;
+import org.junit.jupiter.api.Test;
+
+public class AllocationFreeApiTest {
+
+	@Test
+	public void primitiveAccessorsReadAndWriteSlots() {
+		Item[] items = TestInventories.mixed();
+		GlidedRose app = new GlidedRose(items);
+		assertEquals(items.length, app.size());
+		assertEquals("Aged Brie", app.name(1));
+		assertEquals(ItemCategory.BACKSTAGE_PASS, app.category(5));
+		assertEquals(15, app.sellIn(5));
+		app.setQuality(1, 7);
+		app.setSellIn(1, 9);
+		assertEquals(new Item("Aged Brie", 9, 7), items[1]);
+	}
+
+	@Test
+	public void bulkReadsCopyIntoCallerBuffers() {
+		Item[] items = TestInventories.mixed();
+		GlidedRose app = new GlidedRose(items);
+		int[] sellIn = new int[5];
+		int[] quality = new int[5];
+		app.readSellIn(2, 5, sellIn, 1);
+		app.readQuality(2, 5, quality, 2);
+		assertArrayEquals(new int[]{0, 5, 0, -1, 0}, sellIn);
+		assertArrayEquals(new int[]{0, 0, 7, 80, 80}, quality);
+		assertThrows(IndexOutOfBoundsException.class, () -> app.readSellIn(0, items.length, sellIn, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> app.readQuality(3, 2, quality, 0));
+	}
+
+	@Test
+	public void viewIsReusedAcrossSlots() {
+		Item[] items = TestInventories.mixed();
+		GlidedRose app = new GlidedRose(items);
+		ItemView view = app.view();
+		assertSame(view, view.moveTo(3));
+		assertEquals(ItemCategory.SULFURAS, view.category());
+		view.moveTo(0).quality(1).sellIn(2);
+		assertEquals(new Item("+5 Dexterity Vest", 2, 1), items[0]);
+		assertEquals("+5 Dexterity Vest", view.name());
+	}
+
+	@Test
+	public void updateQualityAndReadsAllocateNothingPerItem() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+
+		Item[] items = TestInventories.random(71, 20_000);
+		GlidedRose app = new GlidedRose(items);
+		int[] buffer = new int[items.length];
+		ItemView view = app.view();
+		for (int day = 0; day < 200; day++) {
+			runDay(app, buffer, view);
+		}
+
+		long thread = Thread.currentThread().getId();
+		int days = 50;
+		long before = allocations.getThreadAllocatedBytes(thread);
+		for (int day = 0; day < days; day++) {
+			runDay(app, buffer, view);
+		}
+		long allocated = allocations.getThreadAllocatedBytes(thread) - before;
+		// a few hundred bytes may come from the JIT or the counter itself, never per item
+		assertTrue(allocated < items.length, allocated + " bytes allocated over " + days + " days");
+	}
+
+	private static void runDay(GlidedRose app, int[] buffer, ItemView view) {
+		app.updateQuality();
+		app.readQuality(0, app.size(), buffer, 0);
+		app.readSellIn(0, app.size(), buffer, 0);
+		for (int i = 0; i < app.size(); i++) {
+			view.moveTo(i).quality(app.quality(i));
+		}
+	}
+}
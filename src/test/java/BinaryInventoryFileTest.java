@@ -0,0 +1,115 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.example.BinaryInventoryFile;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinaryInventoryFileTest {
+
+	private static final int PAGE_SIZE = 4096;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void roundTripsItems() throws IOException {
+		Path file = tempDir.resolve("inventory.bin");
+		Item[] items = TestInventories.mixed();
+		BinaryInventoryFile.write(file, items);
+		assertArrayEquals(items, BinaryInventoryFile.read(file));
+		assertEquals(0, BinaryInventoryFile.daysApplied(file));
+	}
+
+	@Test
+	public void roundTripsEmptyInventoryAndNonAsciiNames() throws IOException {
+		Path empty = tempDir.resolve("empty.bin");
+		BinaryInventoryFile.write(empty, new Item[0]);
+		assertEquals(0, BinaryInventoryFile.read(empty).length);
+
+		Path named = tempDir.resolve("named.bin");
+		Item[] items = {new Item("Épée de Glace", 4, 12), new Item("Épée de Glace", 1, 2), new Item("剣", 0, 9)};
+		BinaryInventoryFile.write(named, items);
+		assertArrayEquals(items, BinaryInventoryFile.read(named));
+	}
+
+	@Test
+	public void inPlaceUpdateMatchesLegacyUpdate() throws IOException {
+		Path file = tempDir.resolve("inventory.bin");
+		Item[] expected = TestInventories.random(31, 10_000);
+		BinaryInventoryFile.write(file, expected);
+		for (int day = 0; day < 25; day++) {
+			BinaryInventoryFile.updateQuality(file, 1);
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		BinaryInventoryFile.updateQuality(file, 10);
+		for (int day = 0; day < 10; day++) {
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertArrayEquals(expected, BinaryInventoryFile.read(file));
+		assertEquals(35, BinaryInventoryFile.daysApplied(file));
+	}
+
+	@Test
+	public void unchangedRecordsAreNotCounted() throws IOException {
+		Path file = tempDir.resolve("inventory.bin");
+		BinaryInventoryFile.write(file, new Item[]{
+			new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+			new Item("Aged Brie", 4, 10),
+			new Item("Sulfuras, Hand of Ragnaros", -1, 80)});
+		assertEquals(1, BinaryInventoryFile.updateQuality(file, 1));
+	}
+
+	@Test
+	public void settledItemsDoNotDirtyTheirPages() throws IOException {
+		Path file = tempDir.resolve("inventory.bin");
+		String[] names = {"Elixir of the Mongoose", "Aged Brie", "Backstage passes to a TAFKAL80ETC concert",
+			"Sulfuras, Hand of Ragnaros"};
+		int[] qualities = {0, 50, 0, 80};
+		Item[] expected = new Item[40_000];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = new Item(names[i % names.length], -3 - i % 7, qualities[i % names.length]);
+		}
+		// the only items whose quality still changes, all within one or two pages
+		for (int i = 20_000; i < 20_003; i++) {
+			expected[i] = new Item("Aged Brie", 4, 10);
+		}
+		BinaryInventoryFile.write(file, expected);
+
+		for (int day = 0; day < 3; day++) {
+			byte[] before = Files.readAllBytes(file);
+			// every sellIn but the Sulfuras ones still counts down
+			assertEquals(30_000, BinaryInventoryFile.updateQuality(file, 1));
+			byte[] after = Files.readAllBytes(file);
+			TestInventories.legacyUpdateQuality(expected);
+
+			int pages = (before.length + PAGE_SIZE - 1) / PAGE_SIZE;
+			int dirtyPages = 0;
+			for (int page = 0; page < pages; page++) {
+				int from = page * PAGE_SIZE;
+				int to = Math.min(before.length, from + PAGE_SIZE);
+				if (!Arrays.equals(before, from, to, after, from, to)) {
+					dirtyPages++;
+				}
+			}
+			// the header with the day count, and the pages of the three Aged Brie
+			assertTrue(dirtyPages <= 3, dirtyPages + " of " + pages + " pages changed on day " + day);
+		}
+		assertArrayEquals(expected, BinaryInventoryFile.read(file));
+	}
+
+	@Test
+	public void rejectsForeignFiles() throws IOException {
+		Path file = tempDir.resolve("other.bin");
+		Files.write(file, new byte[64]);
+		assertThrows(IOException.class, () -> BinaryInventoryFile.read(file));
+	}
+}
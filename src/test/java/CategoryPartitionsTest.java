@@ -0,0 +1,68 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.example.CategoryPartitions;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.example.UpdateDispatchTable;
+import org.example.UpdateRuleRegistry;
+import org.junit.jupiter.api.Test;
+
+public class CategoryPartitionsTest {
+
+	@Test
+	public void partitionedUpdateMatchesLegacyUpdate() {
+		Item[] items = TestInventories.random(17, 5_000);
+		Item[] expected = TestInventories.copy(items);
+		CategoryPartitions partitions = CategoryPartitions.of(items);
+		for (int day = 0; day < 40; day++) {
+			partitions.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+			assertArrayEquals(expected, items, "day " + day);
+		}
+	}
+
+	@Test
+	public void partitionedUpdateMatchesTheStandardRules() {
+		Item[] items = TestInventories.random(23, 5_000);
+		Item[] expected = TestInventories.copy(items);
+		CategoryPartitions partitions = CategoryPartitions.of(items);
+		UpdateDispatchTable table = UpdateRuleRegistry.standard().compile(expected);
+		for (int day = 0; day < 40; day++) {
+			partitions.updateQuality();
+			table.updateQuality();
+			assertArrayEquals(expected, items, "day " + day);
+		}
+	}
+
+	@Test
+	public void everySlotIsInExactlyOnePartition() {
+		Item[] items = TestInventories.mixed();
+		CategoryPartitions partitions = CategoryPartitions.of(items);
+		Map<ItemCategory, int[]> slots = partitions.slots();
+		int total = 0;
+		for (Map.Entry<ItemCategory, int[]> entry : slots.entrySet()) {
+			for (int slot : entry.getValue()) {
+				assertEquals(entry.getKey(), items[slot].category());
+			}
+			total += entry.getValue().length;
+		}
+		assertEquals(items.length, total);
+		assertEquals(2, partitions.size(ItemCategory.SULFURAS));
+		assertEquals(4, partitions.size(ItemCategory.BACKSTAGE_PASS));
+	}
+
+	@Test
+	public void refreshPicksUpRenamedItems() {
+		Item[] items = TestInventories.mixed();
+		CategoryPartitions partitions = CategoryPartitions.of(items);
+		items[0].setName("Sulfuras, Hand of Ragnaros");
+		partitions.refresh();
+		assertEquals(3, partitions.size(ItemCategory.SULFURAS));
+		partitions.updateQuality();
+		assertEquals(20, items[0].getQuality());
+		assertEquals(10, items[0].getSellIn());
+	}
+}
@@ -0,0 +1,62 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.example.ColumnarInventory;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarInventoryTest {
+
+	@Test
+	public void matchesLegacyUpdateEveryDay() {
+		Item[] expected = TestInventories.mixed();
+		ColumnarInventory inventory = ColumnarInventory.fromItems(TestInventories.copy(expected));
+		for (int day = 0; day < 60; day++) {
+			TestInventories.legacyUpdateQuality(expected);
+			inventory.updateQuality();
+			assertArrayEquals(expected, inventory.toItems(), "day " + day);
+		}
+	}
+
+	@Test
+	public void matchesLegacyUpdateForRandomInventory() {
+		Item[] expected = TestInventories.random(42, 5_000);
+		ColumnarInventory inventory = ColumnarInventory.fromItems(expected);
+		for (int day = 0; day < 30; day++) {
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertArrayEquals(expected, inventory.toItems());
+	}
+
+	@Test
+	public void roundTripsThroughItemArray() {
+		Item[] items = TestInventories.mixed();
+		ColumnarInventory inventory = ColumnarInventory.fromItems(items);
+		Item[] converted = inventory.toItems();
+		assertArrayEquals(items, converted);
+		assertNotSame(items[0], converted[0]);
+		assertEquals(ItemCategory.SULFURAS, inventory.category(3));
+		assertEquals(ItemCategory.CONJURED, inventory.category(9));
+	}
+
+	@Test
+	public void copyToWritesCountersBackInPlace() {
+		Item[] items = TestInventories.mixed();
+		ColumnarInventory inventory = ColumnarInventory.fromItems(items);
+		inventory.updateQuality();
+		inventory.copyTo(items);
+		assertEquals(9, items[0].getSellIn());
+		assertEquals(19, items[0].getQuality());
+		assertEquals(1, items[1].getQuality());
+	}
+
+	@Test
+	public void copyToRejectsArrayOfDifferentLength() {
+		ColumnarInventory inventory = ColumnarInventory.fromItems(TestInventories.mixed());
+		assertThrows(IllegalArgumentException.class, () -> inventory.copyTo(new Item[1]));
+	}
+}
@@ -0,0 +1,117 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.ConcurrentInventory;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentInventoryTest {
+
+	@Test
+	public void updatesMatchLegacyUpdate() {
+		Item[] expected = TestInventories.random(51, 2_000);
+		ConcurrentInventory inventory = new ConcurrentInventory(8);
+		long[] ids = new long[expected.length];
+		for (int i = 0; i < expected.length; i++) {
+			ids[i] = inventory.add(expected[i]);
+		}
+		for (int day = 0; day < 20; day++) {
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		inventory.advanceDays(5);
+		for (int day = 0; day < 5; day++) {
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], inventory.get(ids[i]));
+		}
+		assertEquals(25, inventory.day());
+	}
+
+	@Test
+	public void addGetAndRemove() {
+		ConcurrentInventory inventory = ConcurrentInventory.of(TestInventories.mixed());
+		long id = inventory.add(new Item("Aged Brie", 2, 0));
+		Item copy = inventory.get(id);
+		copy.setQuality(40);
+		assertEquals(0, inventory.get(id).getQuality());
+		assertEquals(15, inventory.size());
+		assertEquals(new Item("Aged Brie", 2, 0), inventory.remove(id));
+		assertNull(inventory.remove(id));
+		assertNull(inventory.get(id));
+		assertEquals(14, inventory.snapshot().size());
+	}
+
+	@Test
+	public void concurrentWritersAndReadersDuringRollovers() throws Exception {
+		ConcurrentInventory inventory = new ConcurrentInventory(16);
+		List<Long> sulfuras = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			sulfuras.add(inventory.add(new Item("Sulfuras, Hand of Ragnaros", 3, 80)));
+			inventory.add(new Item("Elixir of the Mongoose", 20, 30));
+		}
+		int threads = 6;
+		ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+		AtomicBoolean running = new AtomicBoolean(true);
+		CountDownLatch started = new CountDownLatch(threads);
+		ConcurrentLinkedQueue<Long> added = new ConcurrentLinkedQueue<>();
+		List<Future<?>> workers = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				int worker = t;
+				workers.add(executor.submit(() -> {
+					started.countDown();
+					int n = 0;
+					while (running.get()) {
+						long id = inventory.add(new Item("Aged Brie", 10, 0));
+						if (n++ % 2 == worker % 2) {
+							inventory.remove(id);
+						} else {
+							added.add(id);
+						}
+						Item item = inventory.get(sulfuras.get(n % sulfuras.size()));
+						assertEquals(80, item.getQuality());
+						assertEquals(3, item.getSellIn());
+					}
+					return null;
+				}));
+			}
+			started.await();
+			for (int day = 0; day < 50; day++) {
+				inventory.updateQuality();
+			}
+			running.set(false);
+			for (Future<?> future : workers) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Map<Long, Item> snapshot = inventory.snapshot();
+		assertEquals(2_000 + added.size(), snapshot.size());
+		for (long id : added) {
+			Item brie = snapshot.get(id);
+			int days = 10 - brie.getSellIn();
+			assertEquals(Math.min(50, days + Math.max(0, days - 10)), brie.getQuality(), brie.toString());
+		}
+	}
+
+	@Test
+	public void rejectsInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentInventory(0));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentInventory(4).advanceDays(-1));
+	}
+}
@@ -0,0 +1,103 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.example.FixedPointInventory;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+
+public class FixedPointInventoryTest {
+
+	@Test
+	public void readsMatchLegacyUpdateEveryDay() {
+		Item[] items = TestInventories.random(41, 3_000);
+		Item[] expected = TestInventories.copy(items);
+		FixedPointInventory inventory = new FixedPointInventory(items);
+		for (int day = 0; day < 80; day++) {
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+			for (int slot = 0; slot < expected.length; slot++) {
+				assertEquals(expected[slot].getSellIn(), inventory.sellIn(slot), "sellIn of " + slot + " on day " + day);
+				assertEquals(expected[slot].getQuality(), inventory.quality(slot), "quality of " + slot + " on day " + day);
+			}
+		}
+		assertArrayEquals(expected, inventory.items());
+	}
+
+	@Test
+	public void settledItemsLeaveTheActiveList() {
+		Item[] items = {
+			new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+			new Item("Elixir of the Mongoose", 5, 0),
+			new Item("Aged Brie", 5, 50),
+			new Item("Backstage passes to a TAFKAL80ETC concert", 0, 30),
+			new Item("+5 Dexterity Vest", 10, 20)
+		};
+		FixedPointInventory inventory = new FixedPointInventory(items);
+		assertEquals(3, inventory.settledCount());
+		assertEquals(2, inventory.activeCount());
+		inventory.updateQuality();
+		assertTrue(inventory.isSettled(3));
+		assertFalse(inventory.isSettled(4));
+		assertEquals(1, inventory.activeCount());
+	}
+
+	@Test
+	public void itemAccessMaterializesSellIn() {
+		Item[] items = {new Item("Elixir of the Mongoose", 5, 0), new Item("Sulfuras, Hand of Ragnaros", 3, 80)};
+		FixedPointInventory inventory = new FixedPointInventory(items);
+		for (int day = 0; day < 7; day++) {
+			inventory.updateQuality();
+		}
+		assertEquals(5, items[0].getSellIn());
+		assertEquals(-2, inventory.item(0).getSellIn());
+		assertEquals(3, inventory.item(1).getSellIn());
+		inventory.updateQuality();
+		assertEquals(-3, inventory.sellIn(0));
+		assertEquals(-3, inventory.item(0).getSellIn());
+	}
+
+	@Test
+	public void refreshReactivatesChangedItem() {
+		Item[] items = {new Item("Elixir of the Mongoose", 5, 0)};
+		Item[] expected = TestInventories.copy(items);
+		FixedPointInventory inventory = new FixedPointInventory(items);
+		inventory.updateQuality();
+		TestInventories.legacyUpdateQuality(expected);
+		inventory.item(0).setQuality(10);
+		expected[0].setQuality(10);
+		inventory.refresh(0);
+		for (int day = 0; day < 12; day++) {
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertArrayEquals(expected, inventory.items());
+	}
+
+	@Test
+	public void refreshBringsTheSellInOfASettledItemUpToDate() {
+		Item[] items = {new Item("Elixir of the Mongoose", 5, 0), new Item("+5 Dexterity Vest", 4, 0)};
+		Item[] expected = TestInventories.copy(items);
+		FixedPointInventory inventory = new FixedPointInventory(items);
+		for (int day = 0; day < 4; day++) {
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertTrue(inventory.isSettled(0));
+		items[0].setQuality(10);
+		expected[0].setQuality(10);
+		items[1].setQuality(10);
+		items[1].setSellIn(20);
+		expected[1].setQuality(10);
+		expected[1].setSellIn(20);
+		inventory.refresh(0);
+		inventory.refresh(1);
+		for (int day = 0; day < 12; day++) {
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+			assertEquals(expected[0].getSellIn(), inventory.sellIn(0), "day " + day);
+		}
+		assertArrayEquals(expected, inventory.items());
+	}
+}
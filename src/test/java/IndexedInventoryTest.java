@@ -0,0 +1,93 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.example.IndexedInventory;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.junit.jupiter.api.Test;
+
+public class IndexedInventoryTest {
+
+	@Test
+	public void queriesMatchFullScansEveryDay() {
+		Item[] items = TestInventories.random(101, 3_000);
+		items[0] = new Item("Elixir of the Mongoose", 4, -2);
+		items[1] = new Item("Aged Brie", 4, 70);
+		Item[] expected = TestInventories.copy(items);
+		IndexedInventory inventory = new IndexedInventory(items);
+		for (int day = 0; day < 40; day++) {
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+			assertArrayEquals(expected, items);
+
+			assertSameSlots(scan(items, i -> i.getSellIn() >= 0 && i.getSellIn() <= 5 && isExpiring(i)),
+				inventory.expiringWithin(5));
+			assertSameSlots(scan(items, i -> i.category() == ItemCategory.BACKSTAGE_PASS
+					&& i.getSellIn() >= 0 && i.getSellIn() <= 5),
+				inventory.expiringWithin(ItemCategory.BACKSTAGE_PASS, 5));
+			assertSameSlots(scan(items, i -> i.getQuality() <= 3), inventory.qualityBetween(Integer.MIN_VALUE, 3));
+			assertSameSlots(scan(items, i -> i.getQuality() >= 10 && i.getQuality() <= 20), inventory.qualityBetween(10, 20));
+			assertSameSlots(scan(items, i -> i.getQuality() >= 49), inventory.qualityBetween(49, Integer.MAX_VALUE));
+			assertEquals(scan(items, i -> i.getQuality() == 0).length, inventory.countQualityBetween(0, 0));
+		}
+	}
+
+	@Test
+	public void expiringResultsAreOrderedBySellIn() {
+		Item[] items = TestInventories.random(103, 1_000);
+		IndexedInventory inventory = new IndexedInventory(items);
+		inventory.updateQuality();
+		int[] slots = inventory.expiringWithin(10);
+		for (int i = 1; i < slots.length; i++) {
+			assertTrue(items[slots[i - 1]].getSellIn() <= items[slots[i]].getSellIn());
+		}
+		int[] soonest = inventory.soonestExpiring(3);
+		assertArrayEquals(Arrays.copyOf(slots, 3), soonest);
+	}
+
+	@Test
+	public void categoryAndTopKQueries() {
+		Item[] items = TestInventories.mixed();
+		IndexedInventory inventory = new IndexedInventory(items);
+		assertArrayEquals(new int[]{3, 4}, inventory.byCategory(ItemCategory.SULFURAS));
+		assertEquals(0, inventory.expiringWithin(ItemCategory.SULFURAS, 100).length);
+		int[] top = inventory.highestQuality(5);
+		assertEquals(5, top.length);
+		for (int slot : top) {
+			assertTrue(items[slot].getQuality() >= 60);
+		}
+		assertEquals(0, inventory.qualityBetween(5, 4).length);
+		assertEquals(0, inventory.expiringWithin(-1).length);
+	}
+
+	@Test
+	public void rebuildPicksUpDirectChanges() {
+		Item[] items = TestInventories.mixed();
+		IndexedInventory inventory = new IndexedInventory(items);
+		inventory.updateQuality();
+		items[0].setSellIn(1);
+		items[0].setQuality(33);
+		inventory.rebuild();
+		assertArrayEquals(new int[]{0}, inventory.qualityBetween(33, 33));
+		assertTrue(IntStream.of(inventory.expiringWithin(1)).anyMatch(slot -> slot == 0));
+	}
+
+	private static boolean isExpiring(Item item) {
+		return item.category() != ItemCategory.SULFURAS;
+	}
+
+	private static int[] scan(Item[] items, Predicate<Item> filter) {
+		return IntStream.range(0, items.length).filter(i -> filter.test(items[i])).toArray();
+	}
+
+	private static void assertSameSlots(int[] expected, int[] actual) {
+		int[] sorted = actual.clone();
+		Arrays.sort(sorted);
+		assertArrayEquals(expected, sorted);
+	}
+}
@@ -0,0 +1,103 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.example.ConcurrentInventory;
+import org.example.InventoryServer;
+import org.example.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InventoryServerTest {
+
+	private ConcurrentInventory inventory;
+	private InventoryServer server;
+	private HttpClient client;
+
+	@BeforeEach
+	public void start() throws IOException {
+		inventory = new ConcurrentInventory(4);
+		server = new InventoryServer(inventory, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).start();
+		client = HttpClient.newHttpClient();
+	}
+
+	@AfterEach
+	public void stop() {
+		server.close();
+	}
+
+	@Test
+	public void addsReadsAndRemovesItems() throws Exception {
+		HttpResponse<String> added = send("POST", "/items", "{\"name\": \"Aged Brie\", \"sellIn\": 2, \"quality\": 0}");
+		assertEquals(201, added.statusCode());
+		assertEquals("{\"id\":0}", added.body());
+		send("POST", "/items", "{\"quality\":7,\"name\":\"Say \\\"hi\\\"\",\"sellIn\":-1,\"extra\":true}");
+
+		assertEquals("{\"id\":0,\"name\":\"Aged Brie\",\"sellIn\":2,\"quality\":0}", send("GET", "/items/0", null).body());
+		assertEquals("[{\"id\":0,\"name\":\"Aged Brie\",\"sellIn\":2,\"quality\":0},"
+				+ "{\"id\":1,\"name\":\"Say \\\"hi\\\"\",\"sellIn\":-1,\"quality\":7}]", send("GET", "/items", null).body());
+
+		assertEquals(200, send("DELETE", "/items/1", null).statusCode());
+		assertEquals(404, send("GET", "/items/1", null).statusCode());
+		assertEquals(1, inventory.size());
+	}
+
+	@Test
+	public void updatesAndAdvancesDays() throws Exception {
+		inventory.add(new Item("Elixir of the Mongoose", 5, 7));
+		assertEquals("{\"day\":1,\"size\":1}", send("POST", "/update", "").body());
+		assertEquals("{\"day\":4,\"size\":1}", send("POST", "/advance?days=3", "").body());
+		assertEquals("{\"day\":4,\"size\":1}", send("GET", "/stats", null).body());
+		assertEquals(new Item("Elixir of the Mongoose", 1, 3), inventory.get(0));
+	}
+
+	@Test
+	public void rejectsBadRequests() throws Exception {
+		assertEquals(400, send("POST", "/items", "{\"name\": \"Aged Brie\"}").statusCode());
+		assertEquals(400, send("POST", "/items", "not json").statusCode());
+		assertEquals(400, send("POST", "/advance?days=-1", "").statusCode());
+		assertEquals(400, send("POST", "/advance", "").statusCode());
+		assertEquals(404, send("GET", "/items/abc", null).statusCode());
+		assertEquals(405, send("GET", "/update", null).statusCode());
+		assertEquals(405, send("PUT", "/items", "{}").statusCode());
+		assertEquals(0, inventory.day());
+	}
+
+	@Test
+	public void servesConcurrentClients() throws Exception {
+		List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			String body = "{\"name\":\"Item " + i + "\",\"sellIn\":10,\"quality\":20}";
+			responses.add(client.sendAsync(request("POST", "/items", body), HttpResponse.BodyHandlers.ofString()));
+		}
+		for (CompletableFuture<HttpResponse<String>> response : responses) {
+			assertEquals(201, response.join().statusCode());
+		}
+		assertEquals(200, inventory.size());
+		assertTrue(send("GET", "/items", null).body().contains("\"name\":\"Item 199\""));
+	}
+
+	private HttpResponse<String> send(String method, String path, String body) throws Exception {
+		return client.send(request(method, path, body), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpRequest request(String method, String path, String body) {
+		HttpRequest.BodyPublisher publisher = body == null
+				? HttpRequest.BodyPublishers.noBody()
+				: HttpRequest.BodyPublishers.ofString(body);
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + path))
+				.method(method, publisher)
+				.build();
+	}
+}
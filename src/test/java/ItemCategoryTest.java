@@ -0,0 +1,63 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.junit.jupiter.api.Test;
+
+public class ItemCategoryTest {
+
+	@Test
+	public void classifiesKnownNames() {
+		assertEquals(ItemCategory.AGED_BRIE, ItemCategory.of("Aged Brie"));
+		assertEquals(ItemCategory.BACKSTAGE_PASS, ItemCategory.of("Backstage passes to a TAFKAL80ETC concert"));
+		assertEquals(ItemCategory.SULFURAS, ItemCategory.of("Sulfuras, Hand of Ragnaros"));
+		assertEquals(ItemCategory.CONJURED, ItemCategory.of("Conjured Mana Cake"));
+		assertEquals(ItemCategory.NORMAL, ItemCategory.of("+5 Dexterity Vest"));
+		assertEquals(ItemCategory.NORMAL, ItemCategory.of(null));
+	}
+
+	@Test
+	public void codesRoundTrip() {
+		for (ItemCategory category : ItemCategory.values()) {
+			assertEquals(category, ItemCategory.fromCode(category.code()));
+		}
+	}
+
+	@Test
+	public void itemReclassifiesAfterRename() {
+		Item item = new Item("Elixir of the Mongoose", 5, 7);
+		assertEquals(ItemCategory.NORMAL, item.category());
+		item.name = "Aged Brie";
+		assertEquals(ItemCategory.AGED_BRIE, item.category());
+		item.setName("Sulfuras, Hand of Ragnaros");
+		assertEquals(ItemCategory.SULFURAS, item.category());
+	}
+
+	@Test
+	public void cachedCategoryDoesNotAffectEqualityOrText() {
+		Item classified = new Item("Aged Brie", 2, 0);
+		classified.category();
+		Item fresh = new Item("Aged Brie", 2, 0);
+		assertEquals(fresh, classified);
+		assertEquals(fresh.hashCode(), classified.hashCode());
+		assertEquals("Item(name=Aged Brie, sellIn=2, quality=0)", classified.toString());
+	}
+
+	@Test
+	public void itemsAddedLaterAreClassifiedOnFirstUpdate() {
+		Item[] items = TestInventories.mixed();
+		Item[] expected = TestInventories.copy(items);
+		GlidedRose app = new GlidedRose(items);
+		for (int day = 0; day < 40; day++) {
+			if (day == 10) {
+				items[0] = new Item("Aged Brie", 3, 10);
+				expected[0] = new Item("Aged Brie", 3, 10);
+			}
+			app.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+			assertArrayEquals(expected, items, "day " + day);
+		}
+	}
+}
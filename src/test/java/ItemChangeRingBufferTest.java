@@ -0,0 +1,120 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.ItemChangeRingBuffer;
+import org.junit.jupiter.api.Test;
+
+public class ItemChangeRingBufferTest {
+
+	@Test
+	public void publishesOneEventPerChangedItemWithFlags() {
+		Item[] items = {
+			new Item("Elixir of the Mongoose", 0, 1),
+			new Item("Aged Brie", 5, 49),
+			new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+			new Item("+5 Dexterity Vest", 3, 0)
+		};
+		ItemChangeRingBuffer ring = new ItemChangeRingBuffer(16, 4);
+		ItemChangeRingBuffer.Subscription subscription = ring.subscribe();
+		new GlidedRose(items).updateQualityAndPublish(ring);
+
+		List<int[]> events = new ArrayList<>();
+		assertEquals(3, subscription.poll((index, oldSellIn, newSellIn, oldQuality, newQuality, flags) ->
+				events.add(new int[] {index, oldSellIn, newSellIn, oldQuality, newQuality, flags}), 100));
+		assertArrayEquals(new int[] {0, 0, -1, 1, 0, ItemChangeRingBuffer.CROSSED_SELL_BY | ItemChangeRingBuffer.HIT_ZERO},
+				events.get(0));
+		assertArrayEquals(new int[] {1, 5, 4, 49, 50, ItemChangeRingBuffer.HIT_CAP}, events.get(1));
+		// quality already at zero does not hit zero again
+		assertArrayEquals(new int[] {3, 3, 2, 0, 0, 0}, events.get(2));
+		assertEquals(0, subscription.lag());
+	}
+
+	@Test
+	public void everySubscriberSeesEveryEventAndStateMatchesPlainUpdate() throws InterruptedException {
+		Item[] items = TestInventories.random(21, 50_000);
+		Item[] expected = TestInventories.copy(items);
+		ItemChangeRingBuffer ring = new ItemChangeRingBuffer(1024, 64);
+		int days = 10;
+
+		// replay the events onto copies of the start state; they must end up where the items are
+		int consumers = 3;
+		Item[][] replicas = new Item[consumers][];
+		Thread[] threads = new Thread[consumers];
+		AtomicBoolean done = new AtomicBoolean();
+		for (int c = 0; c < consumers; c++) {
+			Item[] replica = TestInventories.copy(items);
+			replicas[c] = replica;
+			ItemChangeRingBuffer.Subscription subscription = ring.subscribe();
+			threads[c] = new Thread(() -> {
+				while (true) {
+					boolean finished = done.get();
+					int polled = subscription.poll((index, oldSellIn, newSellIn, oldQuality, newQuality, flags) -> {
+						assertEquals(oldSellIn, replica[index].getSellIn());
+						assertEquals(oldQuality, replica[index].getQuality());
+						replica[index].setSellIn(newSellIn);
+						replica[index].setQuality(newQuality);
+					}, 100);
+					if (polled == 0 && finished) {
+						return;
+					}
+				}
+			});
+			threads[c].start();
+		}
+
+		GlidedRose app = new GlidedRose(items);
+		for (int day = 0; day < days; day++) {
+			app.updateQualityAndPublish(ring);
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		done.set(true);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertArrayEquals(expected, items);
+		for (Item[] replica : replicas) {
+			assertArrayEquals(expected, replica);
+		}
+	}
+
+	@Test
+	public void closedAndMissingSubscribersDoNotBlockTheProducer() {
+		ItemChangeRingBuffer ring = new ItemChangeRingBuffer(8, 2);
+		for (int i = 0; i < 100; i++) {
+			ring.publish(i, 1, 0, 5, 4);
+		}
+		ItemChangeRingBuffer.Subscription subscription = ring.subscribe();
+		ring.publish(100, 1, 0, 5, 4);
+		ring.flush();
+		assertEquals(1, subscription.lag());
+		subscription.close();
+		for (int i = 0; i < 100; i++) {
+			ring.publish(i, 1, 0, 5, 4);
+		}
+		ring.flush();
+		assertEquals(201, ring.published());
+	}
+
+	@Test
+	public void nullRingRunsPlainUpdate() {
+		Item[] items = TestInventories.mixed();
+		Item[] expected = TestInventories.copy(items);
+		new GlidedRose(items).updateQualityAndPublish(null);
+		TestInventories.legacyUpdateQuality(expected);
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void rejectsBadSizes() {
+		assertThrows(IllegalArgumentException.class, () -> new ItemChangeRingBuffer(100));
+		assertThrows(IllegalArgumentException.class, () -> new ItemChangeRingBuffer(64, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ItemChangeRingBuffer(64, 65));
+	}
+}
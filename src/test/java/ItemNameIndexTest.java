@@ -0,0 +1,155 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.example.CategoryPartitions;
+import org.example.ForecastScenario;
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.example.ItemView;
+import org.example.MonteCarloForecaster;
+import org.example.QualityForecast;
+import org.example.UpdateRuleRegistry;
+import org.junit.jupiter.api.Test;
+
+public class ItemNameIndexTest {
+
+	@Test
+	public void findsEverySlotOfAName() {
+		GlidedRose app = new GlidedRose(TestInventories.mixed());
+		assertEquals(slotsByScan(app, "Backstage passes to a TAFKAL80ETC concert"),
+				slotsByIndex(app, "Backstage passes to a TAFKAL80ETC concert"));
+		assertEquals(Set.of(1, 10, 11), slotsByIndex(app, "Aged Brie"));
+		assertEquals(Set.of(3, 4), slotsByIndex(app, "Sulfuras, Hand of Ragnaros"));
+		assertEquals(-1, app.indexOf("Mithril Coat"));
+	}
+
+	@Test
+	public void staysConsistentThroughAddsAndRemoves() {
+		GlidedRose app = new GlidedRose(new Item[0]);
+		SplittableRandom random = new SplittableRandom(5);
+		List<Item> model = new ArrayList<>();
+		for (int operation = 0; operation < 20_000; operation++) {
+			if (model.isEmpty() || random.nextInt(3) > 0) {
+				String name = "Item " + random.nextInt(500);
+				Item item = new Item(name, 10, 20);
+				assertEquals(model.size(), app.addItem(item));
+				model.add(item);
+			} else {
+				int slot = random.nextInt(model.size());
+				Item removed = app.removeItem(slot);
+				assertSame(model.get(slot), removed);
+				Item last = model.remove(model.size() - 1);
+				if (slot < model.size()) {
+					model.set(slot, last);
+				}
+			}
+			if (operation % 1_000 == 0) {
+				for (int n = 0; n < 500; n++) {
+					assertEquals(slotsByScan(app, "Item " + n), slotsByIndex(app, "Item " + n), "Item " + n);
+				}
+			}
+		}
+		assertArrayEquals(model.toArray(new Item[0]), app.getItems());
+	}
+
+	@Test
+	public void removalsLeaveNoEmptySlots() {
+		GlidedRose app = new GlidedRose(TestInventories.mixed());
+		assertEquals(new Item("Sulfuras, Hand of Ragnaros", 0, 80), app.removeItem(3));
+		assertEquals(13, app.addItem(new Item("Aged Brie", 1, 1)));
+		app.removeItem(13);
+		app.removeItem(app.size() - 1);
+		app.removeItem(0);
+		assertEquals(11, app.size());
+		for (Item item : app.getItems()) {
+			assertNotNull(item);
+		}
+
+		List<Item> expected = new ArrayList<>(List.of(TestInventories.mixed()));
+		expected.set(3, expected.remove(13));
+		expected.remove(12);
+		expected.set(0, expected.remove(11));
+		Item[] oracle = expected.toArray(new Item[0]);
+		assertArrayEquals(oracle, app.getItems());
+		assertEquals(slotsByScan(app, "Aged Brie"), slotsByIndex(app, "Aged Brie"));
+		assertEquals(Set.of(0, 1, 10), slotsByIndex(app, "Aged Brie"));
+
+		app.updateQuality();
+		app.updateQualityParallel();
+		app.advanceDays(2);
+		UpdateRuleRegistry.standard().compile(app.getItems()).updateQuality();
+		CategoryPartitions.of(app.getItems()).updateQuality();
+		for (int day = 0; day < 6; day++) {
+			TestInventories.legacyUpdateQuality(oracle);
+		}
+		assertArrayEquals(oracle, app.getItems());
+
+		int[] sellIn = new int[app.size()];
+		int[] quality = new int[app.size()];
+		app.readSellIn(0, app.size(), sellIn, 0);
+		app.readQuality(0, app.size(), quality, 0);
+		ItemView view = app.view();
+		for (int i = 0; i < app.size(); i++) {
+			view.moveTo(i);
+			assertEquals(oracle[i].getName(), app.name(i));
+			assertEquals(oracle[i].getName(), view.name());
+			assertEquals(oracle[i].category(), app.category(i));
+			assertEquals(oracle[i].category(), view.category());
+			assertEquals(oracle[i].getSellIn(), app.sellIn(i));
+			assertEquals(oracle[i].getSellIn(), view.sellIn());
+			assertEquals(oracle[i].getSellIn(), sellIn[i]);
+			assertEquals(oracle[i].getQuality(), app.quality(i));
+			assertEquals(oracle[i].getQuality(), view.quality());
+			assertEquals(oracle[i].getQuality(), quality[i]);
+		}
+
+		QualityForecast forecast = new MonteCarloForecaster(app.getItems(), ForecastScenario.NO_SALES)
+				.forecast(4, 1, 1);
+		assertEquals(3.0, forecast.meanStock(ItemCategory.AGED_BRIE, 0));
+		assertEquals(1.0, forecast.meanStock(ItemCategory.SULFURAS, 0));
+	}
+
+	@Test
+	public void reindexPicksUpDirectChanges() {
+		Item[] items = TestInventories.mixed();
+		GlidedRose app = new GlidedRose(items);
+		assertEquals(0, app.indexOf("+5 Dexterity Vest"));
+		items[0] = new Item("Mithril Coat", 1, 1);
+		assertEquals(-1, app.indexOf("+5 Dexterity Vest"));
+		app.reindex();
+		assertEquals(0, app.indexOf("Mithril Coat"));
+		app.setItems(new Item[] {new Item("Aged Brie", 1, 1)});
+		assertEquals(0, app.indexOf("Aged Brie"));
+		assertEquals(-1, app.indexOf("Mithril Coat"));
+		assertArrayEquals(new Item[] {new Item("Aged Brie", 1, 1)}, app.getItems());
+		assertEquals(new GlidedRose(new Item[] {new Item("Aged Brie", 1, 1)}), app);
+	}
+
+	private static Set<Integer> slotsByIndex(GlidedRose app, String name) {
+		Set<Integer> slots = new HashSet<>();
+		for (int slot = app.indexOf(name); slot >= 0; slot = app.nextIndexOf(name, slot)) {
+			slots.add(slot);
+		}
+		return slots;
+	}
+
+	private static Set<Integer> slotsByScan(GlidedRose app, String name) {
+		Set<Integer> slots = new HashSet<>();
+		Item[] items = app.getItems();
+		for (int slot = 0; slot < items.length; slot++) {
+			if (items[slot].getName().equals(name)) {
+				slots.add(slot);
+			}
+		}
+		return slots;
+	}
+}
@@ -0,0 +1,140 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.example.Item;
+import org.example.ItemRecords;
+import org.example.ItemTextReader;
+import org.example.ItemTextWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ItemTextCodecTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void writesTheSameTextAsItemRecords() throws IOException {
+		Item[] items = TestInventories.random(5, 5_000);
+		items[0] = new Item("Café, \"special\" ☃", Integer.MIN_VALUE, Integer.MAX_VALUE);
+		items[1] = new Item(null, -1, 0);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ItemTextWriter writer = new ItemTextWriter(Channels.newChannel(bytes))) {
+			writer.writeHeader();
+			writer.write(items, 0, items.length);
+		}
+		StringBuilder expected = new StringBuilder(ItemRecords.HEADER).append('\n');
+		for (Item item : items) {
+			expected.append(ItemRecords.format(item)).append('\n');
+		}
+		assertEquals(expected.toString(), bytes.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void roundTripsThroughAFile() throws IOException {
+		Item[] items = TestInventories.random(9, 100_000);
+		items[3] = new Item("Café, \"special\" ☃", Integer.MIN_VALUE, Integer.MAX_VALUE);
+		Path file = tempDir.resolve("items.txt");
+		try (ItemTextWriter writer = ItemTextWriter.open(file)) {
+			writer.writeHeader();
+			writer.write(items, 0, items.length);
+		}
+		Item[] read = new Item[items.length + 1];
+		for (int i = 0; i < read.length; i++) {
+			read[i] = new Item(null, 0, 0);
+		}
+		try (ItemTextReader reader = ItemTextReader.open(file)) {
+			assertEquals(items.length, reader.read(read, 0, read.length));
+			assertEquals(items.length + 1, reader.lineNumber());
+		}
+		for (int i = 0; i < items.length; i++) {
+			assertEquals(items[i], read[i], "item " + i);
+		}
+	}
+
+	@Test
+	public void reusesDecodedNames() throws IOException {
+		ItemTextReader reader = reader("Aged Brie, 2, 0\nAged Brie, 1, 1\n");
+		Item first = new Item(null, 0, 0);
+		Item second = new Item(null, 0, 0);
+		assertTrue(reader.readInto(first));
+		assertTrue(reader.readInto(second));
+		assertSame(first.getName(), second.getName());
+	}
+
+	@Test
+	public void acceptsEveryFormItemRecordsAccepts() throws IOException {
+		String text = ItemRecords.HEADER + "\r\n"
+				+ "\n"
+				+ "   \n"
+				+ "  Aged Brie ,  2 , +3 \r\n"
+				+ "Item(name=Sulfuras, Hand of Ragnaros, sellIn=-1, quality=80)\n"
+				+ "Backstage passes, to a concert, 15, 20";
+		ItemTextReader reader = reader(text);
+		Item item = new Item(null, 0, 0);
+		assertTrue(reader.readInto(item));
+		assertEquals(new Item("Aged Brie", 2, 3), item);
+		assertTrue(reader.readInto(item));
+		assertEquals(new Item("Sulfuras, Hand of Ragnaros", -1, 80), item);
+		assertTrue(reader.readInto(item));
+		assertEquals(new Item("Backstage passes, to a concert", 15, 20), item);
+		assertFalse(reader.readInto(item));
+		assertEquals(6, reader.lineNumber());
+	}
+
+	@Test
+	public void growsForLinesLongerThanTheBuffer() throws IOException {
+		String name = "x".repeat(700_000);
+		ItemTextReader reader = reader("a, 1, 2\n" + name + ", 3, 4\nb, 5, 6\n");
+		Item[] items = {new Item(null, 0, 0), new Item(null, 0, 0), new Item(null, 0, 0)};
+		assertEquals(3, reader.read(items, 0, 3));
+		assertArrayEquals(new Item[] {new Item("a", 1, 2), new Item(name, 3, 4), new Item("b", 5, 6)}, items);
+	}
+
+	@Test
+	public void reportsLineNumberOfMalformedRecord() throws IOException {
+		for (String bad : new String[] {"Aged Brie", "Aged Brie, x, 3", "Aged Brie, 1, 2147483648", "Aged Brie, 1, -",
+				"Item(name=Aged Brie)"}) {
+			ItemTextReader reader = reader("a, 1, 2\n" + bad + "\n");
+			Item item = new Item(null, 0, 0);
+			assertTrue(reader.readInto(item));
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> reader.readInto(item), bad);
+			assertTrue(e.getMessage().startsWith("Line 2:"), e.getMessage());
+		}
+	}
+
+	@Test
+	public void readsEmptyInput() throws IOException {
+		assertFalse(reader("").readInto(new Item(null, 0, 0)));
+		Path file = tempDir.resolve("empty.txt");
+		Files.createFile(file);
+		try (ItemTextReader reader = ItemTextReader.open(file)) {
+			assertEquals(0, reader.read(new Item[] {new Item(null, 0, 0)}, 0, 1));
+		}
+	}
+
+	/** A reader whose channel hands out a few bytes at a time, so lines span reads. */
+	private static ItemTextReader reader(String text) {
+		InputStream trickle = new FilterInputStream(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, 7));
+			}
+		};
+		return new ItemTextReader(Channels.newChannel(trickle));
+	}
+}
@@ -0,0 +1,62 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+
+import org.example.Item;
+import org.example.LazyInventory;
+import org.junit.jupiter.api.Test;
+
+public class LazyInventoryTest {
+
+	@Test
+	public void readsMatchEagerUpdateWhateverTheReadPattern() {
+		Item[] items = TestInventories.random(71, 5_000);
+		Item[] expected = TestInventories.copy(items);
+		LazyInventory inventory = new LazyInventory(items);
+		SplittableRandom random = new SplittableRandom(3);
+		for (int day = 0; day < 60; day++) {
+			for (int read = 0; read < 200; read++) {
+				int slot = random.nextInt(items.length);
+				assertEquals(expected[slot], inventory.item(slot), "slot " + slot + " on day " + day);
+				assertEquals(expected[slot].getSellIn(), inventory.sellIn(slot));
+				assertEquals(expected[slot].getQuality(), inventory.quality(slot));
+			}
+			inventory.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertArrayEquals(expected, inventory.items());
+		assertEquals(60, inventory.day());
+	}
+
+	@Test
+	public void advanceDaysMatchesRepeatedUpdates() {
+		Item[] items = TestInventories.random(72, 1_000);
+		Item[] expected = TestInventories.copy(items);
+		LazyInventory inventory = new LazyInventory(items);
+		inventory.advanceDays(7);
+		inventory.item(0);
+		inventory.advanceDays(0);
+		inventory.advanceDays(30);
+		for (int day = 0; day < 37; day++) {
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertSame(items, inventory.items());
+		assertArrayEquals(expected, items);
+		assertThrows(IllegalArgumentException.class, () -> inventory.advanceDays(-1));
+	}
+
+	@Test
+	public void refreshTakesDirectChangesAsTodaysState() {
+		Item[] items = {new Item("Elixir of the Mongoose", 10, 20), new Item("Aged Brie", 2, 0)};
+		LazyInventory inventory = new LazyInventory(items);
+		inventory.advanceDays(3);
+		items[1] = new Item("Backstage passes to a TAFKAL80ETC concert", 5, 10);
+		inventory.refresh(1);
+		inventory.updateQuality();
+		assertEquals(new Item("Elixir of the Mongoose", 6, 16), inventory.item(0));
+		assertEquals(new Item("Backstage passes to a TAFKAL80ETC concert", 4, 13), inventory.item(1));
+	}
+}
@@ -0,0 +1,75 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.example.LongIntHashMap;
+import org.junit.jupiter.api.Test;
+
+public class LongIntHashMapTest {
+
+	@Test
+	public void behavesLikeHashMapUnderRandomOperations() {
+		LongIntHashMap map = new LongIntHashMap();
+		Map<Long, Integer> expected = new HashMap<>();
+		List<Long> keys = new ArrayList<>();
+		SplittableRandom random = new SplittableRandom(17);
+		for (int operation = 0; operation < 300_000; operation++) {
+			long key;
+			if (!keys.isEmpty() && random.nextInt(3) > 0) {
+				key = keys.get(random.nextInt(keys.size()));
+			} else {
+				// small keys collide on their home slots, and 0 takes the separate path
+				key = random.nextBoolean() ? random.nextLong(-50, 50) : random.nextLong();
+				keys.add(key);
+			}
+			switch (random.nextInt(4)) {
+				case 0:
+				case 1:
+					int value = random.nextInt();
+					map.put(key, value);
+					expected.put(key, value);
+					break;
+				case 2:
+					assertEquals(expected.remove(key) != null, map.remove(key));
+					break;
+				default:
+					assertEquals(expected.getOrDefault(key, -7), map.get(key, -7));
+					assertEquals(expected.containsKey(key), map.containsKey(key));
+					break;
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), map.get(entry.getKey(), -7));
+		}
+	}
+
+	@Test
+	public void removalKeepsLongRunsReachable() {
+		LongIntHashMap map = new LongIntHashMap(1_000);
+		for (int i = 1; i <= 1_000; i++) {
+			map.put(i, i);
+		}
+		for (int i = 1; i <= 1_000; i += 2) {
+			assertTrue(map.remove(i));
+		}
+		for (int i = 1; i <= 1_000; i++) {
+			assertEquals(i % 2 == 0 ? i : -1, map.get(i, -1));
+		}
+		assertFalse(map.remove(1));
+		map.put(0, 5);
+		assertEquals(501, map.size());
+		map.clear();
+		assertEquals(0, map.size());
+		assertEquals(-1, map.get(0, -1));
+		assertEquals(-1, map.get(2, -1));
+		assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(-1));
+	}
+}
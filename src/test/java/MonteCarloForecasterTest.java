@@ -0,0 +1,131 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.example.ForecastScenario;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.example.MonteCarloForecaster;
+import org.example.QualityForecast;
+import org.junit.jupiter.api.Test;
+
+public class MonteCarloForecasterTest {
+
+	@Test
+	public void withoutSalesEveryReplicaFollowsTheDailyUpdate() {
+		Item[] items = TestInventories.random(61, 3_000);
+		int days = 40;
+		QualityForecast forecast = new MonteCarloForecaster(items, ForecastScenario.NO_SALES).forecast(5, days, 1);
+
+		Item[] expected = TestInventories.copy(items);
+		for (int day = 0; day <= days; day++) {
+			long[][] counts = new long[ItemCategory.values().length][51];
+			long[] stock = new long[ItemCategory.values().length];
+			long[] sums = new long[ItemCategory.values().length];
+			for (Item item : expected) {
+				int category = item.category().ordinal();
+				stock[category]++;
+				sums[category] += item.getQuality();
+				if (item.getQuality() >= 0 && item.getQuality() <= 50) {
+					counts[category][item.getQuality()]++;
+				}
+			}
+			for (ItemCategory category : ItemCategory.values()) {
+				for (int quality = 0; quality <= 50; quality++) {
+					assertEquals(5 * counts[category.ordinal()][quality], forecast.count(category, day, quality),
+							category + " day " + day + " quality " + quality);
+				}
+				assertEquals(stock[category.ordinal()], forecast.meanStock(category, day), 1e-9);
+				if (stock[category.ordinal()] > 0) {
+					assertEquals((double) sums[category.ordinal()] / stock[category.ordinal()],
+							forecast.meanQuality(category, day), 1e-9);
+				}
+			}
+			TestInventories.legacyUpdateQuality(expected);
+		}
+	}
+
+	@Test
+	public void resultsDependOnlyOnTheSeed() {
+		Item[] items = TestInventories.random(62, 2_000);
+		ForecastScenario scenario = new ForecastScenario(0.05, 0.2);
+		ForkJoinPool single = new ForkJoinPool(1);
+		ForkJoinPool four = new ForkJoinPool(4);
+		try {
+			QualityForecast a = new MonteCarloForecaster(items, scenario, single).forecast(37, 30, 99);
+			QualityForecast b = new MonteCarloForecaster(items, scenario, four).forecast(37, 30, 99);
+			QualityForecast c = new MonteCarloForecaster(items, scenario, four).forecast(37, 30, 100);
+			boolean differs = false;
+			for (ItemCategory category : ItemCategory.values()) {
+				for (int day = 0; day <= 30; day++) {
+					assertEquals(a.meanStock(category, day), b.meanStock(category, day));
+					for (int quality = 0; quality <= 50; quality++) {
+						assertEquals(a.count(category, day, quality), b.count(category, day, quality));
+					}
+					differs |= a.meanStock(category, day) != c.meanStock(category, day);
+				}
+			}
+			assertTrue(differs);
+		} finally {
+			single.shutdown();
+			four.shutdown();
+		}
+	}
+
+	@Test
+	public void salesAndRestocksFollowTheirRates() {
+		Item[] items = TestInventories.random(63, 10_000);
+		MonteCarloForecaster forecaster = new MonteCarloForecaster(items, new ForecastScenario(0.1, 0));
+		QualityForecast forecast = forecaster.forecast(20, 3, 5);
+		double total = 0;
+		for (ItemCategory category : ItemCategory.values()) {
+			total += forecast.meanStock(category, 3);
+		}
+		// 0.9^3 of the stock is left after three days
+		assertEquals(10_000 * 0.729, total, 60);
+
+		QualityForecast soldAndBack = new MonteCarloForecaster(items, new ForecastScenario(1, 1)).forecast(3, 4, 5);
+		for (ItemCategory category : ItemCategory.values()) {
+			for (int quality = 0; quality <= 50; quality++) {
+				assertEquals(soldAndBack.count(category, 0, quality), soldAndBack.count(category, 4, quality));
+			}
+		}
+
+		QualityForecast allSold = new MonteCarloForecaster(items, new ForecastScenario(1, 0)).forecast(3, 2, 5);
+		for (ItemCategory category : ItemCategory.values()) {
+			assertEquals(0, allSold.meanStock(category, 1));
+			assertTrue(Double.isNaN(allSold.meanQuality(category, 2)));
+			assertEquals(-1, allSold.qualityPercentile(category, 2, 50));
+		}
+	}
+
+	@Test
+	public void reportsPercentilesOfInRangeQualities() {
+		Item[] items = {
+			new Item("Elixir of the Mongoose", 10, 10),
+			new Item("Elixir of the Mongoose", 10, 20),
+			new Item("Elixir of the Mongoose", 10, 30),
+			new Item("Elixir of the Mongoose", 10, 40),
+			new Item("Sulfuras, Hand of Ragnaros", 0, 80)
+		};
+		QualityForecast forecast = new MonteCarloForecaster(items, ForecastScenario.NO_SALES).forecast(2, 1, 0);
+		assertEquals(19, forecast.qualityPercentile(ItemCategory.NORMAL, 1, 50));
+		assertEquals(39, forecast.qualityPercentile(ItemCategory.NORMAL, 1, 100));
+		assertEquals(-1, forecast.qualityPercentile(ItemCategory.SULFURAS, 1, 50));
+		assertEquals(80, forecast.meanQuality(ItemCategory.SULFURAS, 1));
+	}
+
+	@Test
+	public void rejectsBadArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new ForecastScenario(1.5, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ForecastScenario(0, Double.NaN));
+		MonteCarloForecaster forecaster = new MonteCarloForecaster(TestInventories.mixed(), ForecastScenario.NO_SALES);
+		assertThrows(IllegalArgumentException.class, () -> forecaster.forecast(0, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> forecaster.forecast(1, -1, 1));
+		QualityForecast forecast = forecaster.forecast(1, 2, 1);
+		assertThrows(IllegalArgumentException.class, () -> forecast.count(ItemCategory.NORMAL, 3, 0));
+		assertThrows(IllegalArgumentException.class, () -> forecast.count(ItemCategory.NORMAL, 1, 51));
+	}
+}
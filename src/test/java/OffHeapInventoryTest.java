@@ -0,0 +1,83 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.example.Item;
+import org.example.ItemCategory;
+import org.example.OffHeapInventory;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapInventoryTest {
+
+	@Test
+	public void updatesMatchLegacyUpdateAcrossPages() {
+		Item[] expected = TestInventories.random(81, 10_000);
+		try (OffHeapInventory inventory = new OffHeapInventory(333)) {
+			for (Item item : expected) {
+				inventory.add(item);
+			}
+			for (int day = 0; day < 30; day++) {
+				inventory.updateQuality();
+				TestInventories.legacyUpdateQuality(expected);
+			}
+			assertEquals(expected.length, inventory.size());
+			for (int slot = 0; slot < expected.length; slot++) {
+				assertEquals(expected[slot], inventory.item(slot), "slot " + slot);
+			}
+		}
+	}
+
+	@Test
+	public void advanceDaysMatchesRepeatedUpdates() {
+		Item[] expected = TestInventories.random(82, 3_000);
+		try (OffHeapInventory inventory = OffHeapInventory.of(expected)) {
+			inventory.advanceDays(25);
+			inventory.advanceDays(0);
+			for (int day = 0; day < 25; day++) {
+				TestInventories.legacyUpdateQuality(expected);
+			}
+			for (int slot = 0; slot < expected.length; slot++) {
+				assertEquals(expected[slot], inventory.item(slot), "slot " + slot);
+			}
+			assertThrows(IllegalArgumentException.class, () -> inventory.advanceDays(-1));
+		}
+	}
+
+	@Test
+	public void storesNamesOnceAndRoundTripsThem() {
+		try (OffHeapInventory inventory = new OffHeapInventory(2)) {
+			String longName = "x".repeat(10_000);
+			inventory.add(new Item("Aged Brie", 2, 0));
+			inventory.add(new Item("Café ☃", 1, 1));
+			inventory.add(new Item("Aged Brie", 5, 5));
+			inventory.add(new Item(null, 0, 0));
+			inventory.add(new Item(longName, 0, 0));
+			for (int i = 0; i < 500; i++) {
+				inventory.add(new Item("Item " + (i % 100), i, 10));
+			}
+			assertEquals(103, inventory.nameCount());
+			assertEquals("Aged Brie", inventory.name(2));
+			assertEquals(ItemCategory.AGED_BRIE, inventory.category(2));
+			assertEquals("Café ☃", inventory.name(1));
+			assertNull(inventory.name(3));
+			assertEquals(longName, inventory.name(4));
+			assertEquals("Item 99", inventory.name(504));
+
+			inventory.setSellIn(0, 7);
+			inventory.setQuality(0, 9);
+			assertEquals(new Item("Aged Brie", 7, 9), inventory.item(0));
+			assertThrows(IndexOutOfBoundsException.class, () -> inventory.quality(505));
+		}
+	}
+
+	@Test
+	public void refusesUseAfterClose() {
+		OffHeapInventory inventory = OffHeapInventory.of(TestInventories.mixed());
+		inventory.close();
+		inventory.close();
+		assertThrows(IllegalStateException.class, () -> inventory.quality(0));
+		assertThrows(IllegalStateException.class, inventory::updateQuality);
+		assertThrows(IllegalStateException.class, () -> inventory.add(new Item("Aged Brie", 1, 1)));
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapInventory(0));
+	}
+}
@@ -0,0 +1,87 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+
+public class ParallelUpdateTest {
+
+	@Test
+	public void commonPoolUpdateMatchesSequential() {
+		Item[] items = TestInventories.random(7, 100_000);
+		Item[] expected = TestInventories.copy(items);
+		GlidedRose app = new GlidedRose(items);
+		GlidedRose sequential = new GlidedRose(expected);
+		for (int day = 0; day < 20; day++) {
+			app.updateQualityParallel();
+			sequential.updateQuality();
+		}
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void smallThresholdOnDedicatedPoolMatchesSequential() {
+		Item[] items = TestInventories.random(11, 10_001);
+		Item[] expected = TestInventories.copy(items);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			GlidedRose app = new GlidedRose(items);
+			for (int day = 0; day < 15; day++) {
+				app.updateQualityParallel(pool, 7);
+				TestInventories.legacyUpdateQuality(expected);
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void executorChunksMatchSequential() {
+		Item[] items = TestInventories.random(13, 9_999);
+		Item[] expected = TestInventories.copy(items);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			GlidedRose app = new GlidedRose(items);
+			for (int day = 0; day < 15; day++) {
+				app.updateQualityParallel(executor, 1_000);
+				TestInventories.legacyUpdateQuality(expected);
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void chunkSizeLargerThanAnyInventoryRunsOneChunk() {
+		Item[] items = TestInventories.random(14, 1_001);
+		Item[] expected = TestInventories.copy(items);
+		GlidedRose app = new GlidedRose(items);
+		app.updateQualityParallel(Runnable::run, Integer.MAX_VALUE);
+		app.updateQualityParallel(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+		TestInventories.legacyUpdateQuality(expected);
+		TestInventories.legacyUpdateQuality(expected);
+		assertArrayEquals(expected, items);
+		new GlidedRose(new Item[0]).updateQualityParallel(Runnable::run, Integer.MAX_VALUE);
+	}
+
+	@Test
+	public void emptyInventoryIsAccepted() {
+		GlidedRose app = new GlidedRose(new Item[0]);
+		app.updateQualityParallel();
+		app.updateQualityParallel(Runnable::run, 16);
+	}
+
+	@Test
+	public void rejectsNonPositiveChunkSize() {
+		GlidedRose app = new GlidedRose(TestInventories.mixed());
+		assertThrows(IllegalArgumentException.class, () -> app.updateQualityParallel(ForkJoinPool.commonPool(), 0));
+		assertThrows(IllegalArgumentException.class, () -> app.updateQualityParallel(Runnable::run, -1));
+	}
+}
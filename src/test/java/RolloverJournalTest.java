@@ -0,0 +1,283 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.example.Item;
+import org.example.RolloverJournal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RolloverJournalTest {
+
+	private static final int HEADER_SIZE = 16;
+	private static final int RECORD_SIZE = 20;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void journaledUpdatesMatchLegacyAndReplayFromSnapshot() throws IOException {
+		Path path = tempDir.resolve("rollover.journal");
+		Item[] snapshot = TestInventories.random(111, 10_000);
+		Item[] items = TestInventories.copy(snapshot);
+		Item[] expected = TestInventories.copy(snapshot);
+		try (RolloverJournal journal = RolloverJournal.open(path, items, 0)) {
+			for (int day = 0; day < 12; day++) {
+				journal.updateQuality();
+				TestInventories.legacyUpdateQuality(expected);
+			}
+			assertEquals(12, journal.day());
+		}
+		assertArrayEquals(expected, items);
+
+		Item[] restored = TestInventories.copy(snapshot);
+		assertEquals(12, RolloverJournal.recover(path, restored));
+		assertArrayEquals(expected, restored);
+	}
+
+	@Test
+	public void unfinishedDayIsRolledBackFromPartiallyUpdatedItems() throws IOException {
+		Path path = tempDir.resolve("rollover.journal");
+		Item[] snapshot = TestInventories.random(113, 9_000);
+		Item[] items = TestInventories.copy(snapshot);
+		int committedSize;
+		try (RolloverJournal journal = RolloverJournal.open(path, items, 0)) {
+			journal.updateQuality();
+			journal.updateQuality();
+			committedSize = (int) Files.size(path);
+			journal.updateQuality();
+		}
+		Item[] dayTwo = TestInventories.copy(snapshot);
+		TestInventories.legacyUpdateQuality(dayTwo);
+		TestInventories.legacyUpdateQuality(dayTwo);
+
+		// crash in the middle of day three: the commit and later deltas never reached the file,
+		// while the items in memory had already moved on
+		truncate(path, committedSize + RECORD_SIZE * 2_500 + 7);
+		Item[] crashed = TestInventories.copy(dayTwo);
+		TestInventories.legacyUpdateQuality(crashed);
+		assertEquals(2, RolloverJournal.recover(path, crashed));
+		assertArrayEquals(dayTwo, crashed);
+
+		Item[] fromSnapshot = TestInventories.copy(snapshot);
+		try (RolloverJournal journal = RolloverJournal.open(path, fromSnapshot, 0)) {
+			assertEquals(2, journal.day());
+			assertEquals(committedSize, Files.size(path));
+			journal.updateQuality();
+		}
+		TestInventories.legacyUpdateQuality(dayTwo);
+		assertArrayEquals(dayTwo, fromSnapshot);
+	}
+
+	@Test
+	public void corruptedDeltaInvalidatesItsDay() throws IOException {
+		Path path = tempDir.resolve("rollover.journal");
+		Item[] snapshot = TestInventories.mixed();
+		try (RolloverJournal journal = RolloverJournal.open(path, TestInventories.copy(snapshot), 5)) {
+			journal.updateQuality();
+			journal.updateQuality();
+		}
+		long journalSize = Files.size(path);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			ByteBuffer value = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(99).flip();
+			channel.write(value, journalSize - RECORD_SIZE * 3 + 16);
+		}
+		Item[] restored = TestInventories.copy(snapshot);
+		assertEquals(6, RolloverJournal.recover(path, restored));
+		TestInventories.legacyUpdateQuality(snapshot);
+		assertArrayEquals(snapshot, restored);
+	}
+
+	@Test
+	public void checkpointStartsReplayFromCurrentDay() throws IOException {
+		Path path = tempDir.resolve("rollover.journal");
+		Item[] items = TestInventories.mixed();
+		try (RolloverJournal journal = RolloverJournal.open(path, items, 0)) {
+			journal.updateQuality();
+			journal.updateQuality();
+			journal.checkpoint();
+			assertEquals(HEADER_SIZE, Files.size(path));
+			journal.updateQuality();
+		}
+		Item[] dayTwo = TestInventories.mixed();
+		TestInventories.legacyUpdateQuality(dayTwo);
+		TestInventories.legacyUpdateQuality(dayTwo);
+		assertEquals(3, RolloverJournal.recover(path, dayTwo));
+		assertArrayEquals(items, dayTwo);
+	}
+
+	@Test
+	public void rejectsJournalForDifferentInventory() throws IOException {
+		Path path = tempDir.resolve("rollover.journal");
+		try (RolloverJournal journal = RolloverJournal.open(path, TestInventories.mixed(), 0)) {
+			journal.updateQuality();
+		}
+		assertThrows(IOException.class, () -> RolloverJournal.recover(path, new Item[3]));
+		Path other = tempDir.resolve("other");
+		Files.write(other, new byte[40]);
+		assertThrows(IOException.class, () -> RolloverJournal.recover(other, TestInventories.mixed()));
+	}
+
+	@Test
+	public void failedWriteRollsBackTheDaySoLaterDaysReplay() throws IOException {
+		Path path = tempDir.resolve("rollover.journal");
+		Item[] snapshot = TestInventories.random(117, 20_000);
+		Item[] items = TestInventories.copy(snapshot);
+		Item[] expected = TestInventories.copy(snapshot);
+		FailingChannel channel = new FailingChannel(FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE));
+		try (RolloverJournal journal = RolloverJournal.open(channel, items, 0)) {
+			journal.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+			long committedSize = Files.size(path);
+
+			// fails at the start, in the middle and at the end of a batch
+			for (int writesLeft = 0; writesLeft < 8; writesLeft++) {
+				channel.writesLeft = writesLeft;
+				assertThrows(IOException.class, journal::updateQuality);
+				assertEquals(1, journal.day());
+				assertEquals(committedSize, Files.size(path));
+				assertArrayEquals(expected, items, "failing after " + writesLeft + " writes");
+			}
+
+			channel.writesLeft = Integer.MAX_VALUE;
+			journal.updateQuality();
+			journal.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertArrayEquals(expected, items);
+
+		Item[] restored = TestInventories.copy(snapshot);
+		assertEquals(3, RolloverJournal.recover(path, restored));
+		assertArrayEquals(expected, restored);
+	}
+
+	private static void truncate(Path path, long size) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			channel.truncate(size);
+		}
+	}
+
+	/**
+	 * Passes everything through to a real channel, except that writes fail once
+	 * {@code writesLeft} reaches zero.
+	 */
+	private static final class FailingChannel extends FileChannel {
+		private final FileChannel delegate;
+		int writesLeft = Integer.MAX_VALUE;
+
+		FailingChannel(FileChannel delegate) {
+			this.delegate = delegate;
+		}
+
+		private void checkWrite() throws IOException {
+			if (writesLeft-- <= 0) {
+				throw new IOException("Injected write failure");
+			}
+		}
+
+		@Override
+		public int write(ByteBuffer src) throws IOException {
+			checkWrite();
+			return delegate.write(src);
+		}
+
+		@Override
+		public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+			checkWrite();
+			return delegate.write(srcs, offset, length);
+		}
+
+		@Override
+		public int write(ByteBuffer src, long position) throws IOException {
+			checkWrite();
+			return delegate.write(src, position);
+		}
+
+		@Override
+		public int read(ByteBuffer dst) throws IOException {
+			return delegate.read(dst);
+		}
+
+		@Override
+		public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+			return delegate.read(dsts, offset, length);
+		}
+
+		@Override
+		public int read(ByteBuffer dst, long position) throws IOException {
+			return delegate.read(dst, position);
+		}
+
+		@Override
+		public long position() throws IOException {
+			return delegate.position();
+		}
+
+		@Override
+		public FileChannel position(long newPosition) throws IOException {
+			delegate.position(newPosition);
+			return this;
+		}
+
+		@Override
+		public long size() throws IOException {
+			return delegate.size();
+		}
+
+		@Override
+		public FileChannel truncate(long size) throws IOException {
+			delegate.truncate(size);
+			return this;
+		}
+
+		@Override
+		public void force(boolean metaData) throws IOException {
+			delegate.force(metaData);
+		}
+
+		@Override
+		public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+			return delegate.transferTo(position, count, target);
+		}
+
+		@Override
+		public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+			checkWrite();
+			return delegate.transferFrom(src, position, count);
+		}
+
+		@Override
+		public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+			return delegate.map(mode, position, size);
+		}
+
+		@Override
+		public FileLock lock(long position, long size, boolean shared) throws IOException {
+			return delegate.lock(position, size, shared);
+		}
+
+		@Override
+		public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+			return delegate.tryLock(position, size, shared);
+		}
+
+		@Override
+		protected void implCloseChannel() throws IOException {
+			delegate.close();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.ShopRunReport;
+import org.example.ShopScheduler;
+import org.junit.jupiter.api.Test;
+
+public class ShopSchedulerTest {
+
+	@Test
+	public void manySmallShopsMatchSequentialUpdate() {
+		GlidedRose[] shops = new GlidedRose[2_000];
+		Item[][] expected = new Item[shops.length][];
+		for (int shop = 0; shop < shops.length; shop++) {
+			Item[] items = TestInventories.random(shop, shop % 17);
+			expected[shop] = TestInventories.copy(items);
+			shops[shop] = new GlidedRose(items);
+		}
+		ShopScheduler scheduler = new ShopScheduler(ForkJoinPool.commonPool(), 64);
+		for (int day = 0; day < 12; day++) {
+			scheduler.run(shops, 1);
+			for (Item[] items : expected) {
+				TestInventories.legacyUpdateQuality(items);
+			}
+		}
+		for (int shop = 0; shop < shops.length; shop++) {
+			assertArrayEquals(expected[shop], shops[shop].getItems(), "shop " + shop);
+		}
+	}
+
+	@Test
+	public void perShopDayCountsMatchAdvanceDays() {
+		GlidedRose[] shops = new GlidedRose[300];
+		GlidedRose[] expected = new GlidedRose[shops.length];
+		int[] days = new int[shops.length];
+		for (int shop = 0; shop < shops.length; shop++) {
+			Item[] items = TestInventories.random(shop + 1_000, shop == 7 ? 5_000 : 40);
+			shops[shop] = new GlidedRose(items);
+			expected[shop] = new GlidedRose(TestInventories.copy(items));
+			days[shop] = shop % 5;
+			expected[shop].advanceDays(days[shop]);
+		}
+		ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			new ShopScheduler(pool, 256).run(shops, days);
+		} finally {
+			pool.shutdown();
+		}
+		for (int shop = 0; shop < shops.length; shop++) {
+			assertArrayEquals(expected[shop].getItems(), shops[shop].getItems(), "shop " + shop);
+		}
+	}
+
+	@Test
+	public void reportCountsItemsDaysAndBatches() {
+		GlidedRose[] shops = {
+			new GlidedRose(TestInventories.random(1, 30)),
+			new GlidedRose(TestInventories.random(2, 30)),
+			new GlidedRose(TestInventories.random(3, 250)),
+			new GlidedRose(new Item[0]),
+			new GlidedRose(TestInventories.random(4, 10))
+		};
+		ShopRunReport report = new ShopScheduler(ForkJoinPool.commonPool(), 100).run(shops, new int[] {1, 2, 3, 4, 0});
+		assertEquals(5, report.shops());
+		assertEquals(320, report.items());
+		assertEquals(30 + 60 + 750, report.itemDays());
+		// the two small shops share a batch, the large one is split into three
+		assertEquals(4, report.batches());
+		assertTrue(report.itemDaysPerSecond() > 0);
+	}
+
+	@Test
+	public void rejectsBadArguments() {
+		GlidedRose[] shops = {new GlidedRose(TestInventories.mixed())};
+		ShopScheduler scheduler = new ShopScheduler();
+		assertThrows(IllegalArgumentException.class, () -> new ShopScheduler(ForkJoinPool.commonPool(), 0));
+		assertThrows(IllegalArgumentException.class, () -> scheduler.run(shops, -1));
+		assertThrows(IllegalArgumentException.class, () -> scheduler.run(shops, new int[] {1, 1}));
+	}
+}
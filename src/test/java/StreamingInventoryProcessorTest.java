@@ -0,0 +1,89 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.ItemRecords;
+import org.example.StreamingInventoryProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StreamingInventoryProcessorTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void parsesBothRecordForms() {
+		Item expected = new Item("Sulfuras, Hand of Ragnaros", -1, 80);
+		assertEquals(expected, ItemRecords.parse("Sulfuras, Hand of Ragnaros, -1, 80"));
+		assertEquals(expected, ItemRecords.parse(expected.toString()));
+		assertEquals("Sulfuras, Hand of Ragnaros, -1, 80", ItemRecords.format(expected));
+	}
+
+	@Test
+	public void rejectsMalformedRecords() {
+		assertThrows(IllegalArgumentException.class, () -> ItemRecords.parse("Aged Brie"));
+		assertThrows(IllegalArgumentException.class, () -> ItemRecords.parse("Aged Brie, x, 3"));
+		assertThrows(IllegalArgumentException.class, () -> ItemRecords.parse("Item(name=Aged Brie)"));
+	}
+
+	@Test
+	public void streamedResultMatchesInMemoryAcrossChunkBoundaries() throws IOException {
+		Item[] items = TestInventories.random(23, 1_000);
+		StringBuilder input = new StringBuilder(ItemRecords.HEADER).append('\n');
+		for (int i = 0; i < items.length; i++) {
+			input.append(i % 2 == 0 ? items[i].toString() : ItemRecords.format(items[i])).append("\n\n");
+		}
+		StringWriter output = new StringWriter();
+		long written = new StreamingInventoryProcessor(12, 7)
+			.process(new BufferedReader(new StringReader(input.toString())), output);
+
+		new GlidedRose(items).advanceDays(12);
+		assertEquals(items.length, written);
+		String[] lines = output.toString().split("\n");
+		assertEquals(items.length, lines.length);
+		for (int i = 0; i < items.length; i++) {
+			assertEquals(items[i], ItemRecords.parse(lines[i]));
+		}
+	}
+
+	@Test
+	public void processesFiles() throws IOException {
+		Path input = tempDir.resolve("in.txt");
+		Path output = tempDir.resolve("out.txt");
+		Item[] items = TestInventories.mixed();
+		StringBuilder text = new StringBuilder();
+		for (Item item : items) {
+			text.append(item).append('\n');
+		}
+		Files.writeString(input, text, StandardCharsets.UTF_8);
+
+		long written = new StreamingInventoryProcessor(1).process(input, output);
+
+		TestInventories.legacyUpdateQuality(items);
+		List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+		Item[] parsed = lines.stream().map(ItemRecords::parse).toArray(Item[]::new);
+		assertEquals(items.length, written);
+		assertArrayEquals(items, parsed);
+	}
+
+	@Test
+	public void reportsLineNumberOfMalformedRecord() {
+		String input = "Aged Brie, 2, 0\nnot an item\n";
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+			new StreamingInventoryProcessor(1).process(new BufferedReader(new StringReader(input)), new StringWriter()));
+		assertTrue(e.getMessage().startsWith("Line 2:"));
+	}
+}
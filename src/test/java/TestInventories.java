@@ -0,0 +1,111 @@
+import java.util.Random;
+
+import org.example.Item;
+
+final class TestInventories {
+
+	private static final String[] NAMES = {
+		"+5 Dexterity Vest",
+		"Elixir of the Mongoose",
+		"Aged Brie",
+		"Backstage passes to a TAFKAL80ETC concert",
+		"Sulfuras, Hand of Ragnaros",
+		"Conjured Mana Cake"
+	};
+
+	private TestInventories() {
+	}
+
+	static Item[] mixed() {
+		return new Item[]{
+			new Item("+5 Dexterity Vest", 10, 20),
+			new Item("Aged Brie", 2, 0),
+			new Item("Elixir of the Mongoose", 5, 7),
+			new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+			new Item("Sulfuras, Hand of Ragnaros", -1, 80),
+			new Item("Backstage passes to a TAFKAL80ETC concert", 15, 20),
+			new Item("Backstage passes to a TAFKAL80ETC concert", 10, 49),
+			new Item("Backstage passes to a TAFKAL80ETC concert", 5, 49),
+			new Item("Backstage passes to a TAFKAL80ETC concert", 12, 60),
+			new Item("Conjured Mana Cake", 3, 6),
+			new Item("Aged Brie", -3, 49),
+			new Item("Aged Brie", 4, 70),
+			new Item("Elixir of the Mongoose", -2, -4),
+			new Item("Conjured Mana Cake", 120, 100)
+		};
+	}
+
+	static Item[] random(long seed, int size) {
+		Random random = new Random(seed);
+		Item[] items = new Item[size];
+		for (int i = 0; i < size; i++) {
+			items[i] = new Item(NAMES[random.nextInt(NAMES.length)], random.nextInt(40) - 10, random.nextInt(60));
+		}
+		return items;
+	}
+
+	static Item[] copy(Item[] items) {
+		Item[] copy = new Item[items.length];
+		for (int i = 0; i < items.length; i++) {
+			copy[i] = new Item(items[i].getName(), items[i].getSellIn(), items[i].getQuality());
+		}
+		return copy;
+	}
+
+	/**
+	 * The original nested-if implementation of the daily update, kept as the oracle
+	 * the optimised paths are checked against.
+	 */
+	static void legacyUpdateQuality(Item[] items) {
+		for (int i = 0; i < items.length; i++) {
+			if (!items[i].name.equals("Aged Brie")
+					&& !items[i].name.equals("Backstage passes to a TAFKAL80ETC concert")) {
+				if (items[i].quality > 0) {
+					if (!items[i].name.equals("Sulfuras, Hand of Ragnaros")) {
+						items[i].quality = items[i].quality - 1;
+					}
+				}
+			} else {
+				if (items[i].quality < 50) {
+					items[i].quality = items[i].quality + 1;
+
+					if (items[i].name.equals("Backstage passes to a TAFKAL80ETC concert")) {
+						if (items[i].sellIn < 11) {
+							if (items[i].quality < 50) {
+								items[i].quality = items[i].quality + 1;
+							}
+						}
+
+						if (items[i].sellIn < 6) {
+							if (items[i].quality < 50) {
+								items[i].quality = items[i].quality + 1;
+							}
+						}
+					}
+				}
+			}
+
+			if (!items[i].name.equals("Sulfuras, Hand of Ragnaros")) {
+				items[i].sellIn = items[i].sellIn - 1;
+			}
+
+			if (items[i].sellIn < 0) {
+				if (!items[i].name.equals("Aged Brie")) {
+					if (!items[i].name.equals("Backstage passes to a TAFKAL80ETC concert")) {
+						if (items[i].quality > 0) {
+							if (!items[i].name.equals("Sulfuras, Hand of Ragnaros")) {
+								items[i].quality = items[i].quality - 1;
+							}
+						}
+					} else {
+						items[i].quality = items[i].quality - items[i].quality;
+					}
+				} else {
+					if (items[i].quality < 50) {
+						items[i].quality = items[i].quality + 1;
+					}
+				}
+			}
+		}
+	}
+}
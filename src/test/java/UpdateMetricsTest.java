@@ -0,0 +1,154 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.example.CategoryPartitions;
+import org.example.GlidedRose;
+import org.example.Item;
+import org.example.ItemCategory;
+import org.example.LatencyHistogram;
+import org.example.UpdateMetrics;
+import org.example.UpdateRunStats;
+import org.junit.jupiter.api.Test;
+
+public class UpdateMetricsTest {
+
+	@Test
+	public void instrumentedUpdateMatchesPlainUpdate() {
+		Item[] items = TestInventories.random(91, 5_000);
+		Item[] expected = TestInventories.copy(items);
+		GlidedRose app = new GlidedRose(items);
+		CategoryPartitions partitions = CategoryPartitions.of(items);
+		UpdateMetrics metrics = new UpdateMetrics();
+		for (int day = 0; day < 30; day++) {
+			if (day % 2 == 0) {
+				app.updateQuality(metrics);
+			} else {
+				partitions.updateQuality(metrics);
+			}
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		app.updateQuality(null);
+		TestInventories.legacyUpdateQuality(expected);
+		assertArrayEquals(expected, items);
+		assertEquals(30, metrics.getRuns());
+		assertEquals(30L * items.length, metrics.getItemsUpdated());
+	}
+
+	@Test
+	public void countsPerCategory() {
+		Item[] items = {
+			new Item("Aged Brie", 3, 49),
+			new Item("Elixir of the Mongoose", 0, 1),
+			new Item("Elixir of the Mongoose", 4, 0),
+			new Item("Backstage passes to a TAFKAL80ETC concert", 0, 20),
+			new Item("Sulfuras, Hand of Ragnaros", 0, 80)
+		};
+		List<UpdateRunStats> runs = new ArrayList<>();
+		UpdateMetrics metrics = new UpdateMetrics().addReporter(runs::add);
+		new GlidedRose(items).updateQuality(metrics);
+
+		assertEquals(1, runs.size());
+		UpdateRunStats run = runs.get(0);
+		assertEquals(5, run.items());
+		assertEquals(3, run.qualityChanged());
+		assertEquals(1, run.hitCap(ItemCategory.AGED_BRIE));
+		assertEquals(1, run.hitZero(ItemCategory.NORMAL));
+		assertEquals(1, run.hitZero(ItemCategory.BACKSTAGE_PASS));
+		assertEquals(2, run.pastSellBy());
+		assertEquals(0, run.qualityChanged(ItemCategory.SULFURAS));
+		assertEquals(2, metrics.items(ItemCategory.NORMAL));
+		assertEquals(2, metrics.getHitZero());
+	}
+
+	@Test
+	public void countsRunsLongerThanOneChunkOfOneCategory() {
+		Item[] items = new Item[10_000];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = new Item("Elixir of the Mongoose", i % 3 - 1, i % 2);
+		}
+		UpdateMetrics metrics = new UpdateMetrics();
+		new GlidedRose(items).updateQuality(metrics);
+		CategoryPartitions.of(items).updateQuality(metrics);
+
+		assertEquals(20_000, metrics.items(ItemCategory.NORMAL));
+		// odd slots go from 1 to 0 on the first day and stay there
+		assertEquals(5_000, metrics.qualityChanged(ItemCategory.NORMAL));
+		assertEquals(5_000, metrics.hitZero(ItemCategory.NORMAL));
+		assertEquals(6_666, metrics.pastSellBy(ItemCategory.NORMAL));
+	}
+
+	@Test
+	public void countsEveryItemAfterTheInventoryGrows() {
+		GlidedRose app = new GlidedRose(new Item[] { new Item("Aged Brie", 2, 0) });
+		UpdateMetrics metrics = new UpdateMetrics();
+		app.updateQuality(metrics);
+		Item[] items = new Item[5_000];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = new Item(i % 2 == 0 ? "Aged Brie" : "Elixir of the Mongoose", 5, 10);
+		}
+		app.setItems(items);
+		app.updateQuality(metrics);
+
+		assertEquals(2_501, metrics.items(ItemCategory.AGED_BRIE));
+		assertEquals(2_501, metrics.qualityChanged(ItemCategory.AGED_BRIE));
+		assertEquals(2_500, metrics.items(ItemCategory.NORMAL));
+		assertEquals(11, items[0].getQuality());
+		assertEquals(9, items[1].getQuality());
+	}
+
+	@Test
+	public void partitionedRunRecordsCategoryTimes() {
+		Item[] items = TestInventories.random(93, 20_000);
+		UpdateMetrics metrics = new UpdateMetrics();
+		CategoryPartitions.of(items).updateQuality(metrics);
+		assertTrue(metrics.nanos(ItemCategory.NORMAL) > 0);
+		assertEquals(0, metrics.nanos(ItemCategory.SULFURAS));
+		assertTrue(metrics.items(ItemCategory.SULFURAS) > 0);
+		assertTrue(metrics.getTotalNanos() >= metrics.nanos(ItemCategory.NORMAL));
+	}
+
+	@Test
+	public void exposesCountersThroughJmx() throws Exception {
+		UpdateMetrics metrics = new UpdateMetrics();
+		new GlidedRose(TestInventories.mixed()).updateQuality(metrics);
+		ObjectName name = metrics.registerMBean("jmx-test");
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			assertEquals(1L, server.getAttribute(name, "Runs"));
+			assertEquals((long) TestInventories.mixed().length, server.getAttribute(name, "ItemsUpdated"));
+			assertTrue(server.getAttribute(name, "NanosByCategory") != null);
+		} finally {
+			server.unregisterMBean(name);
+		}
+		Map<String, Long> changed = metrics.getQualityChangedByCategory();
+		assertEquals(ItemCategory.values().length, changed.size());
+	}
+
+	@Test
+	public void histogramPercentilesAreBucketUpperBounds() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.percentile(50));
+		for (int i = 0; i < 99; i++) {
+			histogram.record(100);
+		}
+		histogram.record(5_000);
+		assertEquals(100, histogram.count());
+		assertEquals(127, histogram.percentile(50));
+		assertEquals(127, histogram.percentile(99));
+		assertEquals(5_000, histogram.percentile(100));
+		assertEquals(5_000, histogram.max());
+		histogram.record(0);
+		assertEquals(101, histogram.count());
+		assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+	}
+}
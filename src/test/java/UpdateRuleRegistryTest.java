@@ -0,0 +1,118 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.example.Item;
+import org.example.StandardRule;
+import org.example.UpdateDispatchTable;
+import org.example.UpdateRule;
+import org.example.UpdateRuleRegistry;
+import org.junit.jupiter.api.Test;
+
+public class UpdateRuleRegistryTest {
+
+	@Test
+	public void standardRulesMatchLegacyUpdate() {
+		Item[] items = TestInventories.random(5, 2_000);
+		Item[] expected = TestInventories.copy(items);
+		UpdateDispatchTable table = UpdateRuleRegistry.standard().compile(items);
+		for (int day = 0; day < 40; day++) {
+			table.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void batchUpdateOfEveryRuleMatchesItemUpdate() {
+		int[] slots = new int[700];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = i * 3 % 1_000;
+		}
+		for (StandardRule rule : StandardRule.values()) {
+			Item[] items = TestInventories.random(rule.ordinal(), 1_000);
+			Item[] expected = TestInventories.copy(items);
+			for (int day = 0; day < 40; day++) {
+				rule.updateAll(items, slots, slots.length - 1);
+				for (int i = 0; i < slots.length - 1; i++) {
+					rule.update(expected[slots[i]]);
+				}
+			}
+			assertArrayEquals(expected, items, rule.name());
+		}
+	}
+
+	@Test
+	public void conjuredItemsDegradeTwiceAsFast() {
+		Item[] items = new Item[]{
+			new Item("Conjured Mana Cake", 3, 6),
+			new Item("Conjured Mana Cake", 1, 10),
+			new Item("Conjured Mana Cake", 0, 3),
+			new Item("+5 Dexterity Vest", 3, 6)
+		};
+		UpdateDispatchTable table = UpdateRuleRegistry.withConjured().compile(items);
+		table.updateQuality();
+		assertEquals(4, items[0].getQuality());
+		assertEquals(2, items[0].getSellIn());
+		assertEquals(8, items[1].getQuality());
+		assertEquals(0, items[2].getQuality());
+		assertEquals(5, items[3].getQuality());
+		table.updateQuality();
+		assertEquals(2, items[0].getQuality());
+		assertEquals(4, items[1].getQuality());
+	}
+
+	@Test
+	public void conjuredRuleLeavesOtherCategoriesUnchanged() {
+		Item[] items = TestInventories.random(9, 2_000);
+		for (Item item : items) {
+			if (item.getName().startsWith("Conjured")) {
+				item.setName("Elixir of the Mongoose");
+			}
+		}
+		Item[] expected = TestInventories.copy(items);
+		UpdateDispatchTable table = UpdateRuleRegistry.withConjured().compile(items);
+		for (int day = 0; day < 40; day++) {
+			table.updateQuality();
+			TestInventories.legacyUpdateQuality(expected);
+		}
+		assertArrayEquals(expected, items);
+	}
+
+	@Test
+	public void exactNameWinsOverPrefixAndLongestPrefixWins() {
+		UpdateRule frozen = item -> item.sellIn--;
+		UpdateRule spoiled = item -> item.quality = 0;
+		UpdateRuleRegistry registry = new UpdateRuleRegistry()
+			.registerPrefix("Fresh", frozen)
+			.registerPrefix("Fresh Fish", spoiled)
+			.register("Fresh Fish Sticks", StandardRule.LEGENDARY);
+		assertSame(frozen, registry.resolve("Fresh Bread"));
+		assertSame(spoiled, registry.resolve("Fresh Fish Fillet"));
+		assertSame(StandardRule.LEGENDARY, registry.resolve("Fresh Fish Sticks"));
+		assertSame(StandardRule.NORMAL, registry.resolve("Stale Bread"));
+		assertSame(StandardRule.NORMAL, registry.resolve(null));
+	}
+
+	@Test
+	public void compileGroupsSlotsByRule() {
+		Item[] items = TestInventories.mixed();
+		UpdateDispatchTable table = UpdateRuleRegistry.standard().compile(items);
+		assertEquals(4, table.ruleCount());
+		int total = 0;
+		for (int r = 0; r < table.ruleCount(); r++) {
+			for (int slot : table.slots(r)) {
+				assertSame(UpdateRuleRegistry.standard().resolve(items[slot].getName()), table.rule(r));
+			}
+			total += table.slots(r).length;
+		}
+		assertEquals(items.length, total);
+	}
+
+	@Test
+	public void rejectsNullRule() {
+		assertThrows(IllegalArgumentException.class, () -> new UpdateRuleRegistry().register("x", null));
+		assertThrows(IllegalArgumentException.class, () -> new UpdateRuleRegistry().fallback(null));
+	}
+}
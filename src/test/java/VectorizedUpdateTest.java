@@ -0,0 +1,78 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.example.ColumnarInventory;
+import org.example.Item;
+import org.junit.jupiter.api.Test;
+
+public class VectorizedUpdateTest {
+
+	@Test
+	public void vectorizedUpdateMatchesScalarUpdate() {
+		assumeKernelUnderTest();
+		// odd size so that the scalar tail is exercised as well
+		Item[] items = TestInventories.random(81, 10_007);
+		ColumnarInventory vectorized = ColumnarInventory.fromItems(items);
+		ColumnarInventory scalar = ColumnarInventory.fromItems(items);
+		for (int day = 0; day < 60; day++) {
+			vectorized.updateQualityVectorized();
+			scalar.updateQuality();
+			assertArrayEquals(scalar.toItems(), vectorized.toItems(), "day " + day);
+		}
+	}
+
+	@Test
+	public void vectorizedUpdateMatchesLegacyForEdgeValues() {
+		assumeKernelUnderTest();
+		Item[] expected = new Item[7 * 40];
+		String[] names = {
+			"Elixir of the Mongoose", "Aged Brie", "Backstage passes to a TAFKAL80ETC concert",
+			"Sulfuras, Hand of Ragnaros", "Conjured Mana Cake", "Aged Brie", "Elixir of the Mongoose"
+		};
+		int[] qualities = {-3, 0, 1, 48, 49, 50, 51, 80};
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = new Item(names[i % names.length], i % 16 - 4, qualities[i % qualities.length]);
+		}
+		ColumnarInventory inventory = ColumnarInventory.fromItems(expected);
+		for (int day = 0; day < 20; day++) {
+			inventory.updateQualityVectorized();
+			TestInventories.legacyUpdateQuality(expected);
+			assertArrayEquals(expected, inventory.toItems(), "day " + day);
+		}
+	}
+
+	@Test
+	public void tinyInventoriesUseTheScalarTail() {
+		Item[] expected = TestInventories.mixed();
+		ColumnarInventory inventory = ColumnarInventory.fromItems(new Item[]{expected[5], expected[1], expected[3]});
+		inventory.updateQualityVectorized();
+		TestInventories.legacyUpdateQuality(expected);
+		assertArrayEquals(new Item[]{expected[5], expected[1], expected[3]}, inventory.toItems());
+	}
+
+	@Test
+	public void switchedOffRunsTheScalarFallback() {
+		// set by the scalar-fallback surefire execution, which reruns this class
+		assumeTrue(Boolean.getBoolean("gildedrose.vector.disabled"));
+		assertFalse(ColumnarInventory.isVectorUpdateAvailable());
+		Item[] expected = TestInventories.random(82, 1_001);
+		ColumnarInventory inventory = ColumnarInventory.fromItems(expected);
+		for (int day = 0; day < 30; day++) {
+			inventory.updateQualityVectorized();
+			TestInventories.legacyUpdateQuality(expected);
+			assertArrayEquals(expected, inventory.toItems(), "day " + day);
+		}
+	}
+
+	/**
+	 * Skips where the vector kernel cannot run, so the comparisons never check the
+	 * scalar path against itself, except in the scalar-fallback execution, where the
+	 * fallback is what is under test.
+	 */
+	private static void assumeKernelUnderTest() {
+		if (!Boolean.getBoolean("gildedrose.vector.disabled")) {
+			assumeTrue(ColumnarInventory.isVectorUpdateAvailable(), "no vector species of 256 bits or more");
+		}
+	}
+}
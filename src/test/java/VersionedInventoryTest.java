@@ -0,0 +1,60 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.Item;
+import org.example.VersionedInventory;
+import org.junit.jupiter.api.Test;
+
+public class VersionedInventoryTest {
+
+	@Test
+	public void everyRetainedDayMatchesLegacySnapshot() {
+		Item[] items = TestInventories.random(61, 500);
+		VersionedInventory inventory = new VersionedInventory(items, 90);
+		List<Item[]> history = new ArrayList<>();
+		history.add(TestInventories.copy(items));
+		for (int day = 1; day <= 150; day++) {
+			TestInventories.legacyUpdateQuality(items);
+			history.add(TestInventories.copy(items));
+			inventory.updateQuality();
+		}
+		assertEquals(150, inventory.day());
+		assertEquals(60, inventory.oldestDay());
+		for (int day = inventory.oldestDay(); day <= inventory.day(); day++) {
+			assertArrayEquals(history.get(day), inventory.snapshot(day), "day " + day);
+		}
+	}
+
+	@Test
+	public void singleItemQueries() {
+		Item[] items = {new Item("Aged Brie", 1, 47), new Item("Sulfuras, Hand of Ragnaros", -1, 80)};
+		VersionedInventory inventory = new VersionedInventory(items, 10);
+		for (int day = 0; day < 5; day++) {
+			inventory.updateQuality();
+		}
+		assertEquals(47, inventory.quality(0, 0));
+		assertEquals(48, inventory.quality(0, 1));
+		assertEquals(50, inventory.quality(0, 3));
+		assertEquals(50, inventory.quality(0, 5));
+		assertEquals(-4, inventory.sellIn(0, 5));
+		assertEquals(new Item("Sulfuras, Hand of Ragnaros", -1, 80), inventory.item(1, 4));
+		assertEquals(1, inventory.checkpointCount(1));
+		assertEquals(3, inventory.checkpointCount(0));
+	}
+
+	@Test
+	public void daysOutsideRetentionAreRejected() {
+		VersionedInventory inventory = new VersionedInventory(TestInventories.mixed(), 3);
+		for (int day = 0; day < 5; day++) {
+			inventory.updateQuality();
+		}
+		assertThrows(IllegalArgumentException.class, () -> inventory.quality(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> inventory.sellIn(0, 6));
+		assertThrows(IllegalArgumentException.class, () -> inventory.snapshot(-1));
+		assertEquals(18, inventory.quality(0, 2));
+	}
+}